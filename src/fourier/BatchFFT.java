@@ -0,0 +1,144 @@
+package fourier;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fast Fourier transforms of many independent signals of the same length.
+ * The signals are the rows of a matrix, which is stored row by row in one array, i.e. value j of signal r is
+ * re[r * cols + j] + i im[r * cols + j]. Every row is transformed in place with one shared plan, so each thread works
+ * on a contiguous part of the arrays. Consecutive rows are grouped into tasks of at least threshold values, which are
+ * executed by a ForkJoinPool.
+ * Scaling is the same as in IFFT, i.e. the forward transform is multiplied with 1/cols.
+ */
+public class BatchFFT {
+    /**
+     * Default threshold: every task transforms at least 2^14 complex values.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Minimal number of values, which are transformed by one task.
+     */
+    private final int threshold;
+
+    /**
+     * Uses the common pool and the default threshold.
+     */
+    public BatchFFT() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param pool pool, which executes the transforms.
+     * @param threshold minimal number of values, which are transformed by one task, at least 1.
+     */
+    public BatchFFT(ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive, got " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Compute the fast Fourier transform of every row of the matrix (re + i im) in place.
+     * @param re real parts, row by row, has length rows * cols.
+     * @param im imaginary parts, row by row, has length rows * cols.
+     * @param rows number of signals.
+     * @param cols length of every signal.
+     */
+    public void fft(double[] re, double[] im, int rows, int cols) {
+        run(re, im, rows, cols, false);
+    }
+
+    /**
+     * Compute the inverse fast Fourier transform of every row of the matrix (re + i im) in place.
+     * @param re real parts, row by row, has length rows * cols.
+     * @param im imaginary parts, row by row, has length rows * cols.
+     * @param rows number of signals.
+     * @param cols length of every signal.
+     */
+    public void ifft(double[] re, double[] im, int rows, int cols) {
+        run(re, im, rows, cols, true);
+    }
+
+    private void run(double[] re, double[] im, int rows, int cols, boolean inverse) {
+        if (rows < 0 || (long) rows * cols != re.length || im.length != re.length) {
+            throw new IllegalArgumentException("expected arrays of length " + rows + " * " + cols);
+        }
+        if (rows == 0) {
+            return;
+        }
+        FFTPlan plan = FFTPlan.forSize(cols);
+        int rowsPerTask = Math.max(1, threshold / cols);
+
+        Rows task = new Rows(plan, re, im, 0, rows, rowsPerTask, inverse);
+        if (rows <= rowsPerTask) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /**
+     * Transforms the rows from, ..., to - 1.
+     */
+    private static final class Rows extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final FFTPlan plan;
+        private final double[] re;
+        private final double[] im;
+        private final int from;
+        private final int to;
+        private final int rowsPerTask;
+        private final boolean inverse;
+
+        Rows(FFTPlan plan, double[] re, double[] im, int from, int to, int rowsPerTask, boolean inverse) {
+            this.plan = plan;
+            this.re = re;
+            this.im = im;
+            this.from = from;
+            this.to = to;
+            this.rowsPerTask = rowsPerTask;
+            this.inverse = inverse;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > rowsPerTask) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Rows(plan, re, im, from, mid, rowsPerTask, inverse),
+                        new Rows(plan, re, im, mid, to, rowsPerTask, inverse));
+                return;
+            }
+
+            int n = plan.size();
+            double scale = 1.0 / n;
+            for (int r = from; r < to; r++) {
+                int offset = r * n;
+                if (inverse) {
+                    // ifft(c) = conj(transform(conj(c)))
+                    negate(im, offset, n);
+                    plan.transform(re, im, offset);
+                    negate(im, offset, n);
+                } else {
+                    plan.transform(re, im, offset);
+                    for (int j = offset; j < offset + n; j++) {
+                        re[j] *= scale;
+                        im[j] *= scale;
+                    }
+                }
+            }
+        }
+
+        private static void negate(double[] v, int offset, int n) {
+            for (int j = offset; j < offset + n; j++) {
+                v[j] = -v[j];
+            }
+        }
+    }
+}
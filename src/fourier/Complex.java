@@ -111,7 +111,7 @@ public class Complex {
      * @return "|this|"
      */
     public double getAbs() {
-        return Math.sqrt(Math.pow(this.real, 2) + Math.pow(this.imaginary, 2));
+        return Math.sqrt(this.real * this.real + this.imaginary * this.imaginary);
     }
 
     /**
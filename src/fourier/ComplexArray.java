@@ -0,0 +1,316 @@
+package fourier;
+
+/**
+ * Vector of complex numbers, stored as two primitive arrays for the real and the imaginary parts.
+ * All element-wise operations exist in two variants: one that returns a new vector and one with the suffix InPlace,
+ * which overwrites this vector and doesn't allocate.
+ */
+public class ComplexArray {
+    private final double[] re;
+    private final double[] im;
+
+    /**
+     * Creates a zero vector of length n.
+     */
+    public ComplexArray(int n) {
+        this(new double[n], new double[n]);
+    }
+
+    /**
+     * Creates a vector, which is backed by the given arrays (they are not copied).
+     * @param re real parts.
+     * @param im imaginary parts, has to have the same length as re.
+     */
+    public ComplexArray(double[] re, double[] im) {
+        if (re.length != im.length) {
+            throw new IllegalArgumentException("re and im must have the same length");
+        }
+        this.re = re;
+        this.im = im;
+    }
+
+    /**
+     * Copies another vector.
+     */
+    public ComplexArray(ComplexArray v) {
+        this(v.re.clone(), v.im.clone());
+    }
+
+    /**
+     * Creates a vector with the values of c.
+     */
+    public static ComplexArray fromComplex(Complex[] c) {
+        ComplexArray v = new ComplexArray(c.length);
+        IFFT.split(c, v.re, v.im);
+        return v;
+    }
+
+    /**
+     * Creates a vector with the real parts x and imaginary parts 0.
+     */
+    public static ComplexArray fromReal(double[] x) {
+        return new ComplexArray(x.clone(), new double[x.length]);
+    }
+
+    /**
+     * Returns the values as complex numbers.
+     */
+    public Complex[] toComplex() {
+        return IFFT.join(re, im);
+    }
+
+    /**
+     * Returns the length of the vector.
+     */
+    public int length() {
+        return re.length;
+    }
+
+    /**
+     * Returns the array of real parts, which backs this vector.
+     */
+    public double[] real() {
+        return re;
+    }
+
+    /**
+     * Returns the array of imaginary parts, which backs this vector.
+     */
+    public double[] imaginary() {
+        return im;
+    }
+
+    /**
+     * Returns the i-th entry.
+     */
+    public Complex get(int i) {
+        return new Complex(re[i], im[i]);
+    }
+
+    /**
+     * Returns the real part of the i-th entry.
+     */
+    public double getReal(int i) {
+        return re[i];
+    }
+
+    /**
+     * Returns the imaginary part of the i-th entry.
+     */
+    public double getImaginary(int i) {
+        return im[i];
+    }
+
+    /**
+     * Sets the i-th entry to real + i imaginary.
+     */
+    public void set(int i, double real, double imaginary) {
+        re[i] = real;
+        im[i] = imaginary;
+    }
+
+    /**
+     * Sets the i-th entry to z.
+     */
+    public void set(int i, Complex z) {
+        set(i, z.getReal(), z.getImaginary());
+    }
+
+    /**
+     * @return "this + other", element-wise
+     */
+    public ComplexArray add(ComplexArray other) {
+        return new ComplexArray(this).addInPlace(other);
+    }
+
+    /**
+     * this = this + other, element-wise.
+     * @return this
+     */
+    public ComplexArray addInPlace(ComplexArray other) {
+        checkLength(other);
+        for (int i = 0; i < re.length; i++) {
+            re[i] += other.re[i];
+            im[i] += other.im[i];
+        }
+        return this;
+    }
+
+    /**
+     * @return "this - other", element-wise
+     */
+    public ComplexArray sub(ComplexArray other) {
+        return new ComplexArray(this).subInPlace(other);
+    }
+
+    /**
+     * this = this - other, element-wise.
+     * @return this
+     */
+    public ComplexArray subInPlace(ComplexArray other) {
+        checkLength(other);
+        for (int i = 0; i < re.length; i++) {
+            re[i] -= other.re[i];
+            im[i] -= other.im[i];
+        }
+        return this;
+    }
+
+    /**
+     * @return "this * other", element-wise
+     */
+    public ComplexArray mul(ComplexArray other) {
+        return new ComplexArray(this).mulInPlace(other);
+    }
+
+    /**
+     * this = this * other, element-wise.
+     * @return this
+     */
+    public ComplexArray mulInPlace(ComplexArray other) {
+        checkLength(other);
+        for (int i = 0; i < re.length; i++) {
+            double r = re[i] * other.re[i] - im[i] * other.im[i];
+            im[i] = re[i] * other.im[i] + im[i] * other.re[i];
+            re[i] = r;
+        }
+        return this;
+    }
+
+    /**
+     * @return "this * conj(other)", element-wise, e.g. the cross spectrum of two signals.
+     */
+    public ComplexArray conjugateMul(ComplexArray other) {
+        return new ComplexArray(this).conjugateMulInPlace(other);
+    }
+
+    /**
+     * this = this * conj(other), element-wise.
+     * @return this
+     */
+    public ComplexArray conjugateMulInPlace(ComplexArray other) {
+        checkLength(other);
+        for (int i = 0; i < re.length; i++) {
+            double r = re[i] * other.re[i] + im[i] * other.im[i];
+            im[i] = im[i] * other.re[i] - re[i] * other.im[i];
+            re[i] = r;
+        }
+        return this;
+    }
+
+    /**
+     * @return "factor * this"
+     */
+    public ComplexArray scale(double factor) {
+        return new ComplexArray(this).scaleInPlace(factor);
+    }
+
+    /**
+     * this = factor * this.
+     * @return this
+     */
+    public ComplexArray scaleInPlace(double factor) {
+        for (int i = 0; i < re.length; i++) {
+            re[i] *= factor;
+            im[i] *= factor;
+        }
+        return this;
+    }
+
+    /**
+     * @return "this bar", element-wise
+     */
+    public ComplexArray conjugate() {
+        return new ComplexArray(this).conjugateInPlace();
+    }
+
+    /**
+     * this = this bar, element-wise.
+     * @return this
+     */
+    public ComplexArray conjugateInPlace() {
+        for (int i = 0; i < im.length; i++) {
+            im[i] = -im[i];
+        }
+        return this;
+    }
+
+    /**
+     * @return "|this|", element-wise
+     */
+    public double[] abs() {
+        double[] result = new double[re.length];
+        abs(result);
+        return result;
+    }
+
+    /**
+     * Writes the absolute values of all entries into result.
+     */
+    public void abs(double[] result) {
+        for (int i = 0; i < re.length; i++) {
+            result[i] = Math.sqrt(re[i] * re[i] + im[i] * im[i]);
+        }
+    }
+
+    /**
+     * @return "arg(this)", element-wise, between -pi and pi
+     */
+    public double[] phase() {
+        double[] result = new double[re.length];
+        phase(result);
+        return result;
+    }
+
+    /**
+     * Writes the angles of all entries (between -pi and pi) into result.
+     */
+    public void phase(double[] result) {
+        for (int i = 0; i < re.length; i++) {
+            result[i] = Math.atan2(im[i], re[i]);
+        }
+    }
+
+    /**
+     * @return sum of all entries
+     */
+    public Complex sum() {
+        MutableComplex acc = new MutableComplex();
+        for (int i = 0; i < re.length; i++) {
+            acc.add(re[i], im[i]);
+        }
+        return acc.toComplex();
+    }
+
+    /**
+     * @return "sum_i this[i] * conj(other[i])", the inner product of this and other
+     */
+    public Complex dot(ComplexArray other) {
+        checkLength(other);
+        MutableComplex acc = new MutableComplex();
+        for (int i = 0; i < re.length; i++) {
+            acc.addProduct(re[i], im[i], other.re[i], -other.im[i]);
+        }
+        return acc.toComplex();
+    }
+
+    /**
+     * @return String representation of the vector
+     */
+    public String toString() {
+        StringBuilder str = new StringBuilder("[");
+        for (int i = 0; i < re.length; i++) {
+            if (i > 0) {
+                str.append(", ");
+            }
+            str.append(re[i]).append(" + ").append(im[i]).append("i");
+        }
+        return str.append("]").toString();
+    }
+
+    private void checkLength(ComplexArray other) {
+        if (other.re.length != re.length) {
+            throw new IllegalArgumentException("vectors must have the same length");
+        }
+    }
+}
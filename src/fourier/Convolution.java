@@ -0,0 +1,116 @@
+package fourier;
+
+import java.util.Arrays;
+
+/**
+ * Linear convolution and cross-correlation of real vectors.
+ * Short inputs are convolved directly in O(n m). For longer inputs, both vectors are zero-padded to a power of two
+ * N >= n + m - 1 and multiplied in the frequency domain, which costs O(N log N).
+ * For long or unbounded signals against a fixed filter, see OverlapAdd and OverlapSave.
+ */
+public final class Convolution {
+    private Convolution() { }
+
+    /**
+     * Direct evaluation is used, if n * m is at most this factor times N log2(N).
+     */
+    private static final double DIRECT_FACTOR = 8.0;
+
+    /**
+     * Computes the full convolution of x and h, i.e. result[k] = sum_j x[j] h[k - j] for k = 0, ..., n + m - 2.
+     * @param x first vector, of length n.
+     * @param h second vector, of length m.
+     * @return x * h, of length n + m - 1.
+     */
+    public static double[] convolve(double[] x, double[] h) {
+        if (x.length == 0 || h.length == 0) {
+            return new double[0];
+        }
+        int length = x.length + h.length - 1;
+        int fftSize = fftSize(length);
+        if (useDirect(x.length, h.length, fftSize)) {
+            return convolveDirect(x, h);
+        }
+
+        int bins = fftSize / 2 + 1;
+        double[] xRe = new double[bins];
+        double[] xIm = new double[bins];
+        double[] hRe = new double[bins];
+        double[] hIm = new double[bins];
+        RealFFT.rfft(Arrays.copyOf(x, fftSize), xRe, xIm);
+        RealFFT.rfft(Arrays.copyOf(h, fftSize), hRe, hIm);
+        multiply(xRe, xIm, hRe, hIm, fftSize);
+
+        double[] result = new double[fftSize];
+        RealFFT.irfft(xRe, xIm, result);
+        return Arrays.copyOf(result, length);
+    }
+
+    /**
+     * Computes the full cross-correlation of x and h, i.e. result[k] = sum_j x[j + k - (m - 1)] h[j], where
+     * result[k] belongs to the lag k - (m - 1).
+     * @param x first vector, of length n.
+     * @param h second vector, of length m.
+     * @return cross-correlation of x and h, of length n + m - 1.
+     */
+    public static double[] correlate(double[] x, double[] h) {
+        return convolve(x, reverse(h));
+    }
+
+    /**
+     * Computes the full convolution of x and h directly in O(n m).
+     */
+    public static double[] convolveDirect(double[] x, double[] h) {
+        if (x.length == 0 || h.length == 0) {
+            return new double[0];
+        }
+        double[] result = new double[x.length + h.length - 1];
+        for (int j = 0; j < x.length; j++) {
+            double xj = x[j];
+            for (int i = 0; i < h.length; i++) {
+                result[j + i] += xj * h[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether the direct evaluation is expected to be faster than the FFT of length fftSize.
+     */
+    static boolean useDirect(int n, int m, int fftSize) {
+        double log = 31 - Integer.numberOfLeadingZeros(fftSize);
+        return (double) n * m <= DIRECT_FACTOR * fftSize * Math.max(log, 1);
+    }
+
+    /**
+     * Returns the smallest power of two, which is at least length.
+     */
+    static int fftSize(int length) {
+        int size = Integer.highestOneBit(length);
+        return size < length ? size << 1 : size;
+    }
+
+    /**
+     * Multiplies the bins of x with the bins of h in place. Both are scaled with 1/n by rfft, so the product is
+     * multiplied with n to get the spectrum of the convolution.
+     */
+    static void multiply(double[] xRe, double[] xIm, double[] hRe, double[] hIm, int n) {
+        for (int k = 0; k < xRe.length; k++) {
+            double re = xRe[k] * hRe[k] - xIm[k] * hIm[k];
+            double im = xRe[k] * hIm[k] + xIm[k] * hRe[k];
+            xRe[k] = n * re;
+            xIm[k] = n * im;
+        }
+    }
+
+    /**
+     * Returns the vector h in reversed order.
+     */
+    static double[] reverse(double[] h) {
+        double[] reversed = new double[h.length];
+        for (int i = 0; i < h.length; i++) {
+            reversed[i] = h[h.length - 1 - i];
+        }
+        return reversed;
+    }
+}
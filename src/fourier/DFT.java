@@ -5,28 +5,103 @@ public final class DFT {
 
 
     /**
-     * Compute the discrete Fourier transform of the vector v.
+     * Compute the discrete Fourier transform of the vector v with the table of roots of unity of dft(ComplexArray).
      * @param v
      * @return dft(v)
      */
     public static Complex[] dft(double[] v) {
-        int n = v.length;
-        Complex[] result = new Complex[n];
+        return dft(ComplexArray.fromReal(v)).toComplex();
+    }
 
-        Complex omega_strich = Complex.fromPolar(1, -2 * Math.PI / n);
+    /**
+     * Compute the discrete Fourier transform of the complex vector v. The angles 2 pi (j k mod n) / n are looked up in
+     * a table of the n-th roots of unity, so the inner loop only multiplies and adds.
+     * @param v Vector, of which we want to compute the discrete Fourier transform. It is not modified.
+     * @return dft(v)
+     */
+    public static ComplexArray dft(ComplexArray v) {
+        int n = v.length();
+        double[] vRe = v.real();
+        double[] vIm = v.imaginary();
+        ComplexArray result = new ComplexArray(n);
+
+        double[] cos = new double[n];
+        double[] sin = new double[n];
+        for (int j = 0; j < n; j++) {
+            cos[j] = Math.cos(-2 * Math.PI * j / n);
+            sin[j] = Math.sin(-2 * Math.PI * j / n);
+        }
 
+        MutableComplex sum = new MutableComplex();
         for (int k = 0; k < n; k++) {
-            Complex sum = new Complex();
+            sum.set(0, 0);
+            // jk = j k mod n, without overflow of jk + k for large n
+            for (int j = 0, jk = 0; j < n; j++, jk = jk >= n - k ? jk - (n - k) : jk + k) {
+                sum.addProduct(vRe[j], vIm[j], cos[jk], sin[jk]);
+            }
+            result.set(k, sum.getReal() / n, sum.getImaginary() / n);
+        }
 
-            for (int j = 0; j < n; j++) {
-                Complex omega_jk = omega_strich.power(j * k);
-                sum = sum.add(new Complex(v[j]).mul(omega_jk));
+        return result;
+    }
+
+    /**
+     * Compute only the given bins of the discrete Fourier transform of the vector v, i.e.
+     * dft(v, bins)[i] == dft(v)[bins[i]].
+     * @param v Vector, of which we want to compute the selected bins.
+     * @param bins Indices of the bins, between 0 and v.length - 1.
+     * @return the selected bins of dft(v).
+     */
+    public static Complex[] dft(double[] v, int[] bins) {
+        double[] re = new double[bins.length];
+        double[] im = new double[bins.length];
+
+        dft(v, bins, re, im);
+
+        return IFFT.join(re, im);
+    }
+
+    /**
+     * Compute only the given bins of the discrete Fourier transform of the vector v with the Goertzel algorithm.
+     * For every bin k with w = 2 pi k / n, the recurrence s_j = v[j] + 2 cos(w) s_{j-1} - s_{j-2} is run over the data
+     * (with v[n] = 0), afterwards dft(v)[k] = (s_n - exp(-i w) s_{n-1}) / n. This costs O(n) per bin without any
+     * trigonometric function in the inner loop, and all bins are updated in one pass over v.
+     * @param v Vector, of which we want to compute the selected bins.
+     * @param bins Indices of the bins, between 0 and v.length - 1.
+     * @param re Real parts of the selected bins, has to have the same length as bins.
+     * @param im Imaginary parts of the selected bins, has to have the same length as bins.
+     */
+    public static void dft(double[] v, int[] bins, double[] re, double[] im) {
+        int n = v.length;
+        int m = bins.length;
+        if (re.length != m || im.length != m) {
+            throw new IllegalArgumentException("re and im must have the same length as bins");
+        }
+
+        double[] coefficient = new double[m];
+        double[] s1 = new double[m];
+        double[] s2 = new double[m];
+        for (int i = 0; i < m; i++) {
+            if (bins[i] < 0 || bins[i] >= n) {
+                throw new IllegalArgumentException("bin " + bins[i] + " out of range");
             }
+            coefficient[i] = 2 * Math.cos(2 * Math.PI * bins[i] / n);
+        }
 
-            result[k] = sum.mul(new Complex(1.0/n));
+        for (int j = 0; j <= n; j++) {
+            double x = j < n ? v[j] : 0;
+            for (int i = 0; i < m; i++) {
+                double s = x + coefficient[i] * s1[i] - s2[i];
+                s2[i] = s1[i];
+                s1[i] = s;
+            }
         }
 
-        return result;
+        for (int i = 0; i < m; i++) {
+            double w = 2 * Math.PI * bins[i] / n;
+            re[i] = (s1[i] - Math.cos(w) * s2[i]) / n;
+            im[i] = Math.sin(w) * s2[i] / n;
+        }
     }
 
 }
@@ -0,0 +1,443 @@
+package fourier;
+
+import util.LruCache;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed data for fast Fourier transforms of one fixed length n. Depending on n, one of three algorithms is
+ * used, all of them O(n log n):
+ * - n is a power of two: iterative in-place radix-2 transform with bit-reversal permutation,
+ * - n has no prime factors other than 2, 3, 5 and 7: recursive mixed-radix transform,
+ * - otherwise: Bluestein's chirp-z algorithm, which expresses the transform as a convolution of power-of-two length.
+ * A plan is immutable, so it can be shared between threads, and transforming with it doesn't call any trigonometric
+ * function. Only the power-of-two transform works without allocating, the other two need work arrays per call.
+ * Plans are obtained via forSize(n), which keeps the most recently used plans in a cache.
+ */
+public final class FFTPlan {
+    /**
+     * Maximal number of plans, which are kept in the cache.
+     */
+    public static final int CACHE_CAPACITY = 32;
+
+    private static final LruCache<Integer, FFTPlan> CACHE = new LruCache<>(CACHE_CAPACITY);
+
+    /**
+     * Prime factors, which are handled by the mixed-radix transform.
+     */
+    private static final int[] SMALL_PRIMES = {2, 3, 5, 7};
+
+    /**
+     * Length of the transform.
+     */
+    private final int n;
+
+    /**
+     * Real and imaginary parts of exp(-2 pi i k / n) for k = 0, ..., n/2 - 1 (radix-2) or k = 0, ..., n - 1
+     * (mixed-radix). Not used by Bluestein's algorithm.
+     */
+    private final double[] cos;
+    private final double[] sin;
+
+    /**
+     * Radix-2 only: index pairs (swap[2j], swap[2j+1]), which are exchanged by the bit-reversal permutation.
+     */
+    private final int[] swap;
+
+    /**
+     * Mixed-radix only: prime factors of n, one per recursion level.
+     */
+    private final int[] factors;
+
+    /**
+     * Bluestein only: the chirp exp(-i pi k^2 / n) for k = 0, ..., n - 1, the transformed convolution kernel
+     * (already scaled with 1/m) and the plan for the convolution of power-of-two length m.
+     */
+    private final double[] chirpRe;
+    private final double[] chirpIm;
+    private final double[] kernelRe;
+    private final double[] kernelIm;
+    private final FFTPlan convolution;
+
+    /**
+     * Creates a new plan. Prefer forSize(n), which reuses cached plans.
+     * @param n length of the transform, has to be positive.
+     */
+    public FFTPlan(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("length must be positive, got " + n);
+        }
+        this.n = n;
+
+        boolean powerOfTwo = (n & (n - 1)) == 0;
+        factors = powerOfTwo ? null : smoothFactors(n);
+
+        if (powerOfTwo) {
+            cos = twiddles(n, n / 2, false);
+            sin = twiddles(n, n / 2, true);
+            swap = bitReversalPairs(n);
+            chirpRe = chirpIm = kernelRe = kernelIm = null;
+            convolution = null;
+        } else if (factors != null) {
+            cos = twiddles(n, n, false);
+            sin = twiddles(n, n, true);
+            swap = null;
+            chirpRe = chirpIm = kernelRe = kernelIm = null;
+            convolution = null;
+        } else {
+            cos = sin = null;
+            swap = null;
+
+            int m = Integer.highestOneBit(2 * n - 1);
+            if (m < 2 * n - 1) {
+                m <<= 1;
+            }
+            convolution = forSize(m);
+
+            chirpRe = new double[n];
+            chirpIm = new double[n];
+            for (int k = 0; k < n; k++) {
+                // k^2 mod 2n keeps the angle small, which is important for the accuracy of large transforms.
+                long k2 = (long) k * k % (2L * n);
+                double phi = -Math.PI * k2 / n;
+                chirpRe[k] = Math.cos(phi);
+                chirpIm[k] = Math.sin(phi);
+            }
+
+            // kernel b_k = conj(chirp_k), wrapped around, such that b_{m-k} = b_k
+            kernelRe = new double[m];
+            kernelIm = new double[m];
+            kernelRe[0] = chirpRe[0];
+            kernelIm[0] = -chirpIm[0];
+            for (int k = 1; k < n; k++) {
+                kernelRe[k] = kernelRe[m - k] = chirpRe[k];
+                kernelIm[k] = kernelIm[m - k] = -chirpIm[k];
+            }
+            convolution.transform(kernelRe, kernelIm);
+            double scale = 1.0 / m;
+            for (int k = 0; k < m; k++) {
+                kernelRe[k] *= scale;
+                kernelIm[k] *= scale;
+            }
+        }
+    }
+
+    /**
+     * Returns the real (sin == false) or imaginary (sin == true) parts of exp(-2 pi i k / n) for k < count.
+     */
+    private static double[] twiddles(int n, int count, boolean sin) {
+        double[] w = new double[count];
+        for (int k = 0; k < count; k++) {
+            double phi = -2 * Math.PI * k / n;
+            w[k] = sin ? Math.sin(phi) : Math.cos(phi);
+        }
+        return w;
+    }
+
+    /**
+     * Returns the prime factors of n, if all of them are contained in SMALL_PRIMES, null otherwise.
+     */
+    private static int[] smoothFactors(int n) {
+        int[] result = new int[32];
+        int count = 0;
+        for (int p : SMALL_PRIMES) {
+            while (n % p == 0) {
+                result[count++] = p;
+                n /= p;
+            }
+        }
+        return n == 1 ? Arrays.copyOf(result, count) : null;
+    }
+
+    /**
+     * Returns the index pairs, which are exchanged by the bit-reversal permutation of length n.
+     */
+    private static int[] bitReversalPairs(int n) {
+        int pairs = 0;
+        int[] reversed = new int[n];
+        int bits = Integer.numberOfTrailingZeros(n);
+        for (int i = 0; i < n; i++) {
+            reversed[i] = bits == 0 ? 0 : Integer.reverse(i) >>> (32 - bits);
+            if (i < reversed[i]) {
+                pairs++;
+            }
+        }
+        int[] swap = new int[2 * pairs];
+        for (int i = 0, p = 0; i < n; i++) {
+            if (i < reversed[i]) {
+                swap[p++] = i;
+                swap[p++] = reversed[i];
+            }
+        }
+        return swap;
+    }
+
+    /**
+     * Returns a plan for transforms of length n. Plans are cached, so repeated calls with the same n are cheap.
+     * @param n length of the transform, has to be positive.
+     */
+    public static FFTPlan forSize(int n) {
+        return CACHE.get(n, FFTPlan::new);
+    }
+
+    /**
+     * Removes all plans from the cache.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Returns the length of the transform.
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Compute the fast Fourier transform of the vector (re + i im) in place. Same scaling as IFFT.fft, i.e. the
+     * result is multiplied with 1/n.
+     * @param re real parts, overwritten with the real parts of the transform.
+     * @param im imaginary parts, overwritten with the imaginary parts of the transform.
+     */
+    public void forward(double[] re, double[] im) {
+        checkLength(re, im);
+
+        transform(re, im);
+
+        double scale = 1.0 / n;
+        for (int i = 0; i < n; i++) {
+            re[i] *= scale;
+            im[i] *= scale;
+        }
+    }
+
+    /**
+     * Compute the inverse fast Fourier transform of the vector (re + i im) in place. Same scaling as IFFT.ifft,
+     * i.e. inverse(forward(v)) == v.
+     * @param re real parts, overwritten with the real parts of the inverse transform.
+     * @param im imaginary parts, overwritten with the imaginary parts of the inverse transform.
+     */
+    public void inverse(double[] re, double[] im) {
+        checkLength(re, im);
+
+        // ifft(c) = conj(transform(conj(c)))
+        for (int i = 0; i < n; i++) {
+            im[i] = -im[i];
+        }
+
+        transform(re, im);
+
+        for (int i = 0; i < n; i++) {
+            im[i] = -im[i];
+        }
+    }
+
+    /**
+     * Unscaled forward transform in place of the n values starting at offset.
+     */
+    void transform(double[] re, double[] im, int offset) {
+        if (offset == 0) {
+            transform(re, im);
+        } else if (swap != null) {
+            permute(re, im, offset, 0, swap.length / 2);
+            stages(re, im, offset, n);
+        } else {
+            double[] rowRe = Arrays.copyOfRange(re, offset, offset + n);
+            double[] rowIm = Arrays.copyOfRange(im, offset, offset + n);
+            transform(rowRe, rowIm);
+            System.arraycopy(rowRe, 0, re, offset, n);
+            System.arraycopy(rowIm, 0, im, offset, n);
+        }
+    }
+
+    /**
+     * Unscaled forward transform in place.
+     */
+    void transform(double[] re, double[] im) {
+        if (swap != null) {
+            radix2(re, im);
+        } else if (factors != null) {
+            double[] srcRe = Arrays.copyOf(re, n);
+            double[] srcIm = Arrays.copyOf(im, n);
+            int maxFactor = factors[factors.length - 1];
+            mixedRadix(srcRe, srcIm, 0, 1, re, im, 0, n, 0, new double[2 * maxFactor]);
+        } else {
+            bluestein(re, im);
+        }
+    }
+
+    /**
+     * Radix-2 transform in place: bit-reversal permutation followed by log2(n) butterfly stages.
+     */
+    private void radix2(double[] re, double[] im) {
+        permute(re, im, 0, 0, swap.length / 2);
+        stages(re, im, 0, n);
+    }
+
+    /**
+     * Returns whether the radix-2 building blocks below can be used, i.e. whether n is a power of two.
+     */
+    boolean isPowerOfTwo() {
+        return swap != null;
+    }
+
+    /**
+     * Returns the number of index pairs exchanged by the bit-reversal permutation (radix-2 only).
+     */
+    int swapCount() {
+        return swap.length / 2;
+    }
+
+    /**
+     * Applies the swaps from <= j < to of the bit-reversal permutation to the n values starting at offset
+     * (radix-2 only).
+     */
+    void permute(double[] re, double[] im, int offset, int from, int to) {
+        for (int p = 2 * from; p < 2 * to; p += 2) {
+            int i = offset + swap[p];
+            int j = offset + swap[p + 1];
+            double tmp = re[i];
+            re[i] = re[j];
+            re[j] = tmp;
+            tmp = im[i];
+            im[i] = im[j];
+            im[j] = tmp;
+        }
+    }
+
+    /**
+     * Computes all butterfly stages of lengths 2, 4, ..., len on the block start, ..., start + len - 1 of an already
+     * permuted vector (radix-2 only). After this, the block contains the unscaled transform of its inputs.
+     */
+    void stages(double[] re, double[] im, int start, int len) {
+        for (int l = 2; l <= len; l <<= 1) {
+            for (int s = start; s < start + len; s += l) {
+                butterflies(re, im, s, l, 0, l >> 1);
+            }
+        }
+    }
+
+    /**
+     * Combines the two halves of the block start, ..., start + len - 1 with the butterflies from <= k < to
+     * (radix-2 only).
+     */
+    void butterflies(double[] re, double[] im, int start, int len, int from, int to) {
+        int half = len >> 1;
+        // exp(-2 pi i k / len) = exp(-2 pi i (k * step) / n)
+        int step = n / len;
+        for (int k = from; k < to; k++) {
+            double wRe = cos[k * step];
+            double wIm = sin[k * step];
+            int i = start + k;
+            int j = i + half;
+            double tRe = wRe * re[j] - wIm * im[j];
+            double tIm = wRe * im[j] + wIm * re[j];
+            re[j] = re[i] - tRe;
+            im[j] = im[i] - tIm;
+            re[i] += tRe;
+            im[i] += tIm;
+        }
+    }
+
+    /**
+     * Decimation in time for the sub-transform of length len, whose inputs are src[srcOff + j * stride] and whose
+     * outputs are dst[dstOff], ..., dst[dstOff + len - 1]. With p = factors[level] and m = len / p, first the p
+     * sub-transforms of length m are computed into consecutive blocks of dst. Then for every k < m, the values
+     * Y_q[k] of the blocks are combined by a DFT of length p:
+     * X[k + r * m] = sum_q (exp(-2 pi i q k / len) * Y_q[k]) * exp(-2 pi i q r / p)
+     * @param tmp work array of length at least 2 * p
+     */
+    private void mixedRadix(double[] srcRe, double[] srcIm, int srcOff, int stride,
+                            double[] dstRe, double[] dstIm, int dstOff, int len, int level, double[] tmp) {
+        if (len == 1) {
+            dstRe[dstOff] = srcRe[srcOff];
+            dstIm[dstOff] = srcIm[srcOff];
+            return;
+        }
+
+        int p = factors[level];
+        int m = len / p;
+        for (int q = 0; q < p; q++) {
+            mixedRadix(srcRe, srcIm, srcOff + q * stride, stride * p, dstRe, dstIm, dstOff + q * m, m, level + 1, tmp);
+        }
+
+        // exp(-2 pi i x / len) = cos[x * lenStep] + i sin[x * lenStep], and the same for p.
+        int lenStep = n / len;
+        int pStep = n / p;
+        for (int k = 0; k < m; k++) {
+            // twiddle the k-th entry of every block
+            for (int q = 0; q < p; q++) {
+                int idx = dstOff + q * m + k;
+                int w = q * k * lenStep;
+                double yRe = dstRe[idx];
+                double yIm = dstIm[idx];
+                tmp[2 * q] = cos[w] * yRe - sin[w] * yIm;
+                tmp[2 * q + 1] = cos[w] * yIm + sin[w] * yRe;
+            }
+
+            if (p == 2) {
+                int i = dstOff + k;
+                dstRe[i] = tmp[0] + tmp[2];
+                dstIm[i] = tmp[1] + tmp[3];
+                dstRe[i + m] = tmp[0] - tmp[2];
+                dstIm[i + m] = tmp[1] - tmp[3];
+                continue;
+            }
+
+            // DFT of length p
+            for (int r = 0; r < p; r++) {
+                double sumRe = 0;
+                double sumIm = 0;
+                for (int q = 0, qr = 0; q < p; q++, qr += r) {
+                    int w = (qr % p) * pStep;
+                    sumRe += cos[w] * tmp[2 * q] - sin[w] * tmp[2 * q + 1];
+                    sumIm += cos[w] * tmp[2 * q + 1] + sin[w] * tmp[2 * q];
+                }
+                dstRe[dstOff + r * m + k] = sumRe;
+                dstIm[dstOff + r * m + k] = sumIm;
+            }
+        }
+    }
+
+    /**
+     * Bluestein's algorithm: with j * k = (j^2 + k^2 - (k - j)^2) / 2 the transform becomes
+     * X_k = chirp_k * sum_j (x_j * chirp_j) * conj(chirp_{k-j}),
+     * a convolution, which is evaluated with power-of-two FFTs of length m >= 2n - 1.
+     */
+    private void bluestein(double[] re, double[] im) {
+        int m = kernelRe.length;
+        double[] aRe = new double[m];
+        double[] aIm = new double[m];
+        for (int j = 0; j < n; j++) {
+            aRe[j] = re[j] * chirpRe[j] - im[j] * chirpIm[j];
+            aIm[j] = re[j] * chirpIm[j] + im[j] * chirpRe[j];
+        }
+
+        convolution.transform(aRe, aIm);
+
+        // multiply with the kernel and conjugate, so that the next forward transform computes the inverse
+        for (int k = 0; k < m; k++) {
+            double tmp = aRe[k] * kernelRe[k] - aIm[k] * kernelIm[k];
+            aIm[k] = -(aRe[k] * kernelIm[k] + aIm[k] * kernelRe[k]);
+            aRe[k] = tmp;
+        }
+
+        convolution.transform(aRe, aIm);
+
+        // conjugate back and multiply with the chirp
+        for (int k = 0; k < n; k++) {
+            double cRe = aRe[k];
+            double cIm = -aIm[k];
+            re[k] = cRe * chirpRe[k] - cIm * chirpIm[k];
+            im[k] = cRe * chirpIm[k] + cIm * chirpRe[k];
+        }
+    }
+
+    private void checkLength(double[] re, double[] im) {
+        if (re.length != n || im.length != n) {
+            throw new IllegalArgumentException("expected arrays of length " + n + ", got " + re.length
+                    + " and " + im.length);
+        }
+    }
+}
@@ -5,69 +5,110 @@ public final class IFFT {
     private IFFT() { }
     /**
      * Compute the fast inverse Fourier transform of the vector c.
-     * Assume that the length of c is a power of two, i.e. there exists some m, such that c.length == 2^m
+     * c may have any length, see FFTPlan for the algorithms used.
      * @param c Vector, of which we want to compute the inverse fast fourier transform.
      * @return inverse fourier transform of the vector c.
      */
     public static Complex[] ifft(Complex[] c) {
         int n = c.length;
+        double[] re = new double[n];
+        double[] im = new double[n];
+        split(c, re, im);
 
-        for (int i = 0; i < n; i++) {
-            c[i] = c[i].conjugate();
-        }
-
-        Complex[] result = fft_helper(c);
+        ifft(re, im);
 
-        for (int i = 0; i < n; i++) {
-            result[i] = new Complex(result[i].getReal(),-result[i].getImaginary());
-        }
-
-        return result;
+        return join(re, im);
     }
 
     /**
      * Compute the fast Fourier transform of the vector v.
-     * Assume that the length of v is a power of two, i.e. there exists some m, such that v.length == 2^m
+     * v may have any length, see FFTPlan for the algorithms used.
      * @param v Vector, of which we want to compute the fast fourier transform.
      * @return  fourier transform of the vector c.
      */
     public static Complex[] fft(Complex[] v) {
-        Complex[] result = fft_helper(v);
-        for (int i = 0; i < result.length; i++){
-            result[i] = result[i].mul(new Complex(1.0/ result.length));
-        }
-        return result;
+        int n = v.length;
+        double[] re = new double[n];
+        double[] im = new double[n];
+        split(v, re, im);
+
+        fft(re, im);
+
+        return join(re, im);
     }
 
+    /**
+     * Compute the unscaled fast Fourier transform of the vector v, i.e. fft(v) without the factor 1/n.
+     * @param v Vector, of which we want to compute the transform. It is not modified.
+     * @return unscaled fourier transform of the vector v.
+     */
     public static Complex[] fft_helper(Complex[] v) {
         int n = v.length;
+        double[] re = new double[n];
+        double[] im = new double[n];
+        split(v, re, im);
 
-        if (n == 1) {
-            return v;
-        }
-
-        Complex[] even = new Complex[n / 2];
-        Complex[] odd = new Complex[n / 2];
+        FFTPlan.forSize(n).transform(re, im);
 
-        for (int i = 0; i < n / 2; i++) {
-            even[i] = v[2 * i];
-            odd[i] = v[2 * i + 1];
-        }
+        return join(re, im);
+    }
 
-        Complex[] evenFFT = fft_helper(even);
-        Complex[] oddFFT = fft_helper(odd);
+    /**
+     * Compute the fast Fourier transform of the vector (re + i im) in place. Same scaling as fft(Complex[]),
+     * i.e. the result is multiplied with 1/n.
+     * re and im must have the same length, which may be arbitrary.
+     * @param re real parts, overwritten with the real parts of the transform.
+     * @param im imaginary parts, overwritten with the imaginary parts of the transform.
+     */
+    public static void fft(double[] re, double[] im) {
+        FFTPlan.forSize(re.length).forward(re, im);
+    }
 
-        Complex[] result = new Complex[n];
+    /**
+     * Compute the inverse fast Fourier transform of the vector (re + i im) in place. Same scaling as
+     * ifft(Complex[]), i.e. ifft(fft(v)) == v.
+     * re and im must have the same length, which may be arbitrary.
+     * @param re real parts, overwritten with the real parts of the inverse transform.
+     * @param im imaginary parts, overwritten with the imaginary parts of the inverse transform.
+     */
+    public static void ifft(double[] re, double[] im) {
+        FFTPlan.forSize(re.length).inverse(re, im);
+    }
 
-        for (int k = 0; k < n / 2; k++) {
+    /**
+     * Compute the fast Fourier transform of the vector v in place, see fft(double[], double[]).
+     * @param v Vector, overwritten with its fourier transform.
+     */
+    public static void fft(ComplexArray v) {
+        fft(v.real(), v.imaginary());
+    }
 
-            Complex omega = oddFFT[k].mul(Complex.fromPolar(1, -2 * Math.PI * k / n));
-            result[k] = evenFFT[k].add(omega);
-            result[k + n / 2] = evenFFT[k].sub(omega);
+    /**
+     * Compute the inverse fast Fourier transform of the vector c in place, see ifft(double[], double[]).
+     * @param c Vector, overwritten with its inverse fourier transform.
+     */
+    public static void ifft(ComplexArray c) {
+        ifft(c.real(), c.imaginary());
+    }
 
+    /**
+     * Copies the real and imaginary parts of c into re and im.
+     */
+    static void split(Complex[] c, double[] re, double[] im) {
+        for (int i = 0; i < c.length; i++) {
+            re[i] = c[i].getReal();
+            im[i] = c[i].getImaginary();
         }
+    }
 
+    /**
+     * Creates a complex vector from its real and imaginary parts.
+     */
+    static Complex[] join(double[] re, double[] im) {
+        Complex[] result = new Complex[re.length];
+        for (int i = 0; i < re.length; i++) {
+            result[i] = new Complex(re[i], im[i]);
+        }
         return result;
     }
 }
-
@@ -0,0 +1,107 @@
+package fourier;
+
+/**
+ * Mutable complex number for accumulating sums and products without allocating a Complex per operation.
+ * All operations modify this number and return it, so they can be chained.
+ */
+public class MutableComplex {
+    private double real;
+    private double imaginary;
+
+    public MutableComplex() {
+        this(0, 0);
+    }
+
+    public MutableComplex(double real, double imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Returns the real part.
+     */
+    public double getReal() {
+        return real;
+    }
+
+    /**
+     * Returns the imaginary part.
+     */
+    public double getImaginary() {
+        return imaginary;
+    }
+
+    /**
+     * Returns the absolute value.
+     */
+    public double getAbs() {
+        return Math.sqrt(real * real + imaginary * imaginary);
+    }
+
+    /**
+     * this = r + i im.
+     */
+    public MutableComplex set(double r, double im) {
+        this.real = r;
+        this.imaginary = im;
+        return this;
+    }
+
+    /**
+     * this = this + (r + i im).
+     */
+    public MutableComplex add(double r, double im) {
+        this.real += r;
+        this.imaginary += im;
+        return this;
+    }
+
+    /**
+     * this = this + z.
+     */
+    public MutableComplex add(Complex z) {
+        return add(z.getReal(), z.getImaginary());
+    }
+
+    /**
+     * this = this * (r + i im).
+     */
+    public MutableComplex mul(double r, double im) {
+        double tmp = this.real * r - this.imaginary * im;
+        this.imaginary = this.real * im + this.imaginary * r;
+        this.real = tmp;
+        return this;
+    }
+
+    /**
+     * this = this + (aRe + i aIm) * (bRe + i bIm).
+     */
+    public MutableComplex addProduct(double aRe, double aIm, double bRe, double bIm) {
+        this.real += aRe * bRe - aIm * bIm;
+        this.imaginary += aRe * bIm + aIm * bRe;
+        return this;
+    }
+
+    /**
+     * this = factor * this.
+     */
+    public MutableComplex scale(double factor) {
+        this.real *= factor;
+        this.imaginary *= factor;
+        return this;
+    }
+
+    /**
+     * Returns the current value as an immutable complex number.
+     */
+    public Complex toComplex() {
+        return new Complex(real, imaginary);
+    }
+
+    /**
+     * @return String representation of the number
+     */
+    public String toString() {
+        return real + " + " + imaginary + "i";
+    }
+}
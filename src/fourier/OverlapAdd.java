@@ -0,0 +1,113 @@
+package fourier;
+
+import java.util.Arrays;
+
+/**
+ * Streaming convolution of a long or unbounded signal with a fixed filter h of length m using the overlap-add method.
+ * The signal is cut into blocks of at most blockSize samples. Every block is zero-padded to the FFT length
+ * N >= blockSize + m - 1 and convolved in the frequency domain. The first samples of the result are output, the last
+ * m - 1 are added to the following block. The spectrum of the filter is computed once.
+ * The output is the causal convolution y[t] = sum_i h[i] x[t - i] of everything pushed so far, without latency.
+ */
+public class OverlapAdd {
+    private final int filterLength;
+    private final int blockSize;
+    private final int fftSize;
+
+    /**
+     * Spectrum of the zero-padded filter.
+     */
+    private final double[] hRe;
+    private final double[] hIm;
+
+    /**
+     * Contribution of previous blocks to the next m - 1 output samples.
+     */
+    private final double[] overlap;
+
+    /**
+     * Work buffers.
+     */
+    private final double[] frame;
+    private final double[] re;
+    private final double[] im;
+
+    /**
+     * @param h filter, it is copied.
+     * @param blockSize maximal number of samples, which are processed with one FFT.
+     */
+    public OverlapAdd(double[] h, int blockSize) {
+        if (h.length == 0 || blockSize < 1) {
+            throw new IllegalArgumentException("filter and block size must not be empty");
+        }
+        this.filterLength = h.length;
+        this.blockSize = blockSize;
+        this.fftSize = Convolution.fftSize(blockSize + h.length - 1);
+
+        int bins = fftSize / 2 + 1;
+        this.hRe = new double[bins];
+        this.hIm = new double[bins];
+        RealFFT.rfft(Arrays.copyOf(h, fftSize), hRe, hIm);
+
+        this.overlap = new double[h.length - 1];
+        this.frame = new double[fftSize];
+        this.re = new double[bins];
+        this.im = new double[bins];
+    }
+
+    /**
+     * Filters the samples x[offset], ..., x[offset + length - 1] and writes the filtered samples to
+     * y[yOffset], ..., y[yOffset + length - 1]. x and y may be the same array.
+     */
+    public void process(double[] x, int offset, int length, double[] y, int yOffset) {
+        while (length > 0) {
+            int block = Math.min(length, blockSize);
+            processBlock(x, offset, block, y, yOffset);
+            offset += block;
+            yOffset += block;
+            length -= block;
+        }
+    }
+
+    /**
+     * Filters the samples in x and returns the filtered samples.
+     */
+    public double[] process(double[] x) {
+        double[] y = new double[x.length];
+        process(x, 0, x.length, y, 0);
+        return y;
+    }
+
+    /**
+     * Forgets all samples pushed so far.
+     */
+    public void reset() {
+        Arrays.fill(overlap, 0);
+    }
+
+    /**
+     * Returns the FFT length, which is used per block.
+     */
+    public int getFftSize() {
+        return fftSize;
+    }
+
+    private void processBlock(double[] x, int offset, int block, double[] y, int yOffset) {
+        System.arraycopy(x, offset, frame, 0, block);
+        Arrays.fill(frame, block, fftSize, 0);
+
+        RealFFT.rfft(frame, re, im);
+        Convolution.multiply(re, im, hRe, hIm, fftSize);
+        RealFFT.irfft(re, im, frame);
+
+        // frame[0, block + m - 1) is the convolution of the block, add the tail of the previous blocks
+        int m1 = filterLength - 1;
+        for (int i = 0; i < m1; i++) {
+            frame[i] += overlap[i];
+        }
+        System.arraycopy(frame, 0, y, yOffset, block);
+
+        // new overlap: tail of this block, which already contains the part of the old overlap beyond this block
+        System.arraycopy(frame, block, overlap, 0, m1);
+    }
+}
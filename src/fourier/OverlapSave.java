@@ -0,0 +1,111 @@
+package fourier;
+
+import java.util.Arrays;
+
+/**
+ * Streaming convolution of a long or unbounded signal with a fixed filter h of length m using the overlap-save method.
+ * Every FFT frame of length N consists of the last m - 1 input samples followed by at most N - m + 1 new samples.
+ * Its circular convolution with h is only wrong for the first m - 1 outputs, which are discarded, so no output has to
+ * be added up across blocks. The spectrum of the filter is computed once.
+ * The output is the causal convolution y[t] = sum_i h[i] x[t - i] of everything pushed so far, without latency.
+ */
+public class OverlapSave {
+    private final int filterLength;
+    private final int blockSize;
+    private final int fftSize;
+
+    /**
+     * Spectrum of the zero-padded filter.
+     */
+    private final double[] hRe;
+    private final double[] hIm;
+
+    /**
+     * The last m - 1 input samples, the oldest first.
+     */
+    private final double[] history;
+
+    /**
+     * Work buffers.
+     */
+    private final double[] frame;
+    private final double[] re;
+    private final double[] im;
+
+    /**
+     * @param h filter, it is copied.
+     * @param blockSize minimal number of new samples per FFT frame. The FFT length is the smallest power of two
+     *                  N >= blockSize + m - 1, and up to N - m + 1 samples are processed per frame.
+     */
+    public OverlapSave(double[] h, int blockSize) {
+        if (h.length == 0 || blockSize < 1) {
+            throw new IllegalArgumentException("filter and block size must not be empty");
+        }
+        this.filterLength = h.length;
+        this.fftSize = Convolution.fftSize(blockSize + h.length - 1);
+        this.blockSize = fftSize - h.length + 1;
+
+        int bins = fftSize / 2 + 1;
+        this.hRe = new double[bins];
+        this.hIm = new double[bins];
+        RealFFT.rfft(Arrays.copyOf(h, fftSize), hRe, hIm);
+
+        this.history = new double[h.length - 1];
+        this.frame = new double[fftSize];
+        this.re = new double[bins];
+        this.im = new double[bins];
+    }
+
+    /**
+     * Filters the samples x[offset], ..., x[offset + length - 1] and writes the filtered samples to
+     * y[yOffset], ..., y[yOffset + length - 1]. x and y may be the same array.
+     */
+    public void process(double[] x, int offset, int length, double[] y, int yOffset) {
+        while (length > 0) {
+            int block = Math.min(length, blockSize);
+            processBlock(x, offset, block, y, yOffset);
+            offset += block;
+            yOffset += block;
+            length -= block;
+        }
+    }
+
+    /**
+     * Filters the samples in x and returns the filtered samples.
+     */
+    public double[] process(double[] x) {
+        double[] y = new double[x.length];
+        process(x, 0, x.length, y, 0);
+        return y;
+    }
+
+    /**
+     * Forgets all samples pushed so far.
+     */
+    public void reset() {
+        Arrays.fill(history, 0);
+    }
+
+    /**
+     * Returns the FFT length, which is used per block.
+     */
+    public int getFftSize() {
+        return fftSize;
+    }
+
+    private void processBlock(double[] x, int offset, int block, double[] y, int yOffset) {
+        int m1 = filterLength - 1;
+        System.arraycopy(history, 0, frame, 0, m1);
+        System.arraycopy(x, offset, frame, m1, block);
+        Arrays.fill(frame, m1 + block, fftSize, 0);
+
+        // the last m - 1 samples of the frame are the history of the next one
+        System.arraycopy(frame, block, history, 0, m1);
+
+        RealFFT.rfft(frame, re, im);
+        Convolution.multiply(re, im, hRe, hIm, fftSize);
+        RealFFT.irfft(re, im, frame);
+
+        System.arraycopy(frame, m1, y, yOffset, block);
+    }
+}
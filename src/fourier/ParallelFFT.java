@@ -0,0 +1,248 @@
+package fourier;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fast Fourier transforms, which are distributed over the threads of a ForkJoinPool.
+ * After the bit-reversal permutation, the radix-2 transform of a block of length len consists of the independent
+ * transforms of its two halves, followed by len/2 independent butterflies. Both halves are forked recursively, until
+ * a block is shorter than the threshold and fits into the cache of one core, where it is transformed sequentially.
+ * The butterflies of the large stages are split into chunks of at least threshold/2 butterflies.
+ * Transforms shorter than the threshold and lengths, which are not a power of two, are computed sequentially.
+ * Scaling is the same as in IFFT, i.e. the forward transform is multiplied with 1/n.
+ */
+public class ParallelFFT {
+    /**
+     * Default threshold: blocks of 2^16 complex values (1 MiB) are transformed by one thread.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Length, below which the work isn't split any further.
+     */
+    private final int threshold;
+
+    /**
+     * Uses the common pool and the default threshold.
+     */
+    public ParallelFFT() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param pool pool, which executes the transforms.
+     * @param threshold length, below which a transform or block is computed sequentially, at least 2.
+     */
+    public ParallelFFT(ForkJoinPool pool, int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("threshold must be at least 2, got " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Compute the fast Fourier transform of the vector (re + i im) in place, see IFFT.fft(double[], double[]).
+     */
+    public void fft(double[] re, double[] im) {
+        FFTPlan plan = FFTPlan.forSize(re.length);
+        if (!isParallel(plan)) {
+            plan.forward(re, im);
+            return;
+        }
+        checkLength(re, im);
+
+        pool.invoke(new Transform(plan, re, im));
+        pool.invoke(new Scale(re, im, 0, re.length, 1.0 / re.length, 1.0 / re.length));
+    }
+
+    /**
+     * Compute the inverse fast Fourier transform of the vector (re + i im) in place, see
+     * IFFT.ifft(double[], double[]).
+     */
+    public void ifft(double[] re, double[] im) {
+        FFTPlan plan = FFTPlan.forSize(re.length);
+        if (!isParallel(plan)) {
+            plan.inverse(re, im);
+            return;
+        }
+        checkLength(re, im);
+
+        // ifft(c) = conj(transform(conj(c)))
+        pool.invoke(new Scale(re, im, 0, re.length, 1.0, -1.0));
+        pool.invoke(new Transform(plan, re, im));
+        pool.invoke(new Scale(re, im, 0, re.length, 1.0, -1.0));
+    }
+
+    private boolean isParallel(FFTPlan plan) {
+        return plan.isPowerOfTwo() && plan.size() > threshold;
+    }
+
+    private static void checkLength(double[] re, double[] im) {
+        if (im.length != re.length) {
+            throw new IllegalArgumentException("re and im must have the same length");
+        }
+    }
+
+    /**
+     * Unscaled transform of the whole vector: parallel permutation, then the recursive butterfly stages.
+     */
+    private final class Transform extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final FFTPlan plan;
+        private final double[] re;
+        private final double[] im;
+
+        Transform(FFTPlan plan, double[] re, double[] im) {
+            this.plan = plan;
+            this.re = re;
+            this.im = im;
+        }
+
+        @Override
+        protected void compute() {
+            new Permute(plan, re, im, 0, plan.swapCount()).invoke();
+            new Block(plan, re, im, 0, plan.size()).invoke();
+        }
+    }
+
+    /**
+     * Applies the swaps from, ..., to - 1 of the bit-reversal permutation. The swapped pairs are disjoint, so the
+     * swaps can be done in any order.
+     */
+    private final class Permute extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final FFTPlan plan;
+        private final double[] re;
+        private final double[] im;
+        private final int from;
+        private final int to;
+
+        Permute(FFTPlan plan, double[] re, double[] im, int from, int to) {
+            this.plan = plan;
+            this.re = re;
+            this.im = im;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                plan.permute(re, im, 0, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Permute(plan, re, im, from, mid), new Permute(plan, re, im, mid, to));
+        }
+    }
+
+    /**
+     * Transforms the permuted block start, ..., start + len - 1.
+     */
+    private final class Block extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final FFTPlan plan;
+        private final double[] re;
+        private final double[] im;
+        private final int start;
+        private final int len;
+
+        Block(FFTPlan plan, double[] re, double[] im, int start, int len) {
+            this.plan = plan;
+            this.re = re;
+            this.im = im;
+            this.start = start;
+            this.len = len;
+        }
+
+        @Override
+        protected void compute() {
+            if (len <= threshold) {
+                plan.stages(re, im, start, len);
+                return;
+            }
+            int half = len >> 1;
+            invokeAll(new Block(plan, re, im, start, half), new Block(plan, re, im, start + half, half));
+            new Butterflies(plan, re, im, start, len, 0, half).invoke();
+        }
+    }
+
+    /**
+     * Computes the butterflies from, ..., to - 1 of the last stage of the block start, ..., start + len - 1.
+     */
+    private final class Butterflies extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final FFTPlan plan;
+        private final double[] re;
+        private final double[] im;
+        private final int start;
+        private final int len;
+        private final int from;
+        private final int to;
+
+        Butterflies(FFTPlan plan, double[] re, double[] im, int start, int len, int from, int to) {
+            this.plan = plan;
+            this.re = re;
+            this.im = im;
+            this.start = start;
+            this.len = len;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (2 * (to - from) <= threshold) {
+                plan.butterflies(re, im, start, len, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Butterflies(plan, re, im, start, len, from, mid),
+                    new Butterflies(plan, re, im, start, len, mid, to));
+        }
+    }
+
+    /**
+     * Multiplies re[from], ..., re[to - 1] with reScale and im[from], ..., im[to - 1] with imScale.
+     */
+    private final class Scale extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] re;
+        private final double[] im;
+        private final int from;
+        private final int to;
+        private final double reScale;
+        private final double imScale;
+
+        Scale(double[] re, double[] im, int from, int to, double reScale, double imScale) {
+            this.re = re;
+            this.im = im;
+            this.from = from;
+            this.to = to;
+            this.reScale = reScale;
+            this.imScale = imScale;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    re[i] *= reScale;
+                    im[i] *= imScale;
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Scale(re, im, from, mid, reScale, imScale), new Scale(re, im, mid, to, reScale, imScale));
+        }
+    }
+}
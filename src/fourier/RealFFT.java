@@ -0,0 +1,202 @@
+package fourier;
+
+import util.LruCache;
+
+import java.util.Arrays;
+
+/**
+ * Fast Fourier transforms of real vectors. The transform of a real vector x of length n is Hermitian, i.e.
+ * X[n-k] = conj(X[k]), so only the n/2 + 1 bins X[0], ..., X[n/2] are computed and stored.
+ * For even n, the real vector is packed into a complex vector z[j] = x[2j] + i x[2j+1] of length n/2, whose transform
+ * is split into the transforms of the even and odd samples afterwards. This halves both work and memory compared to a
+ * complex transform. Odd lengths fall back to a complex transform of length n.
+ * Scaling is the same as in IFFT, i.e. the forward transform is multiplied with 1/n.
+ */
+public final class RealFFT {
+    private RealFFT() { }
+
+    /**
+     * Interleaved real and imaginary parts of exp(-2 pi i k / n) for k = 0, ..., n/4, keyed by n.
+     */
+    private static final LruCache<Integer, double[]> TWIDDLES = new LruCache<>(FFTPlan.CACHE_CAPACITY);
+
+    /**
+     * Compute the fast Fourier transform of the real vector x.
+     * @param x Vector, of which we want to compute the fast fourier transform. It is not modified.
+     * @return the bins 0, ..., n/2 of the fourier transform of x.
+     */
+    public static Complex[] rfft(double[] x) {
+        int bins = x.length / 2 + 1;
+        double[] re = new double[bins];
+        double[] im = new double[bins];
+
+        rfft(x, re, im);
+
+        return IFFT.join(re, im);
+    }
+
+    /**
+     * Compute the fast Fourier transform of the real vector x into out, see rfft(double[], double[], double[]).
+     * @param out bins 0, ..., n/2, has to have length n/2 + 1.
+     */
+    public static void rfft(double[] x, ComplexArray out) {
+        rfft(x, out.real(), out.imaginary());
+    }
+
+    /**
+     * Compute the fast Fourier transform of the real vector x. For even lengths whose half is a power of two,
+     * nothing is allocated.
+     * @param x Vector, of which we want to compute the fast fourier transform. It is not modified.
+     * @param re real parts of the bins 0, ..., n/2, has to have length at least n/2 + 1.
+     * @param im imaginary parts of the bins 0, ..., n/2, has to have length at least n/2 + 1.
+     */
+    public static void rfft(double[] x, double[] re, double[] im) {
+        int n = x.length;
+        int bins = n / 2 + 1;
+        if (re.length < bins || im.length < bins) {
+            throw new IllegalArgumentException("output arrays need length " + bins);
+        }
+
+        if (n % 2 != 0) {
+            double[] zRe = Arrays.copyOf(x, n);
+            double[] zIm = new double[n];
+            FFTPlan.forSize(n).forward(zRe, zIm);
+            System.arraycopy(zRe, 0, re, 0, bins);
+            System.arraycopy(zIm, 0, im, 0, bins);
+            return;
+        }
+
+        int half = n / 2;
+        for (int j = 0; j < half; j++) {
+            re[j] = x[2 * j];
+            im[j] = x[2 * j + 1];
+        }
+        FFTPlan.forSize(half).transform(re, im);
+
+        // With a = Z[k], b = Z[half-k], E = (a + conj(b)) / 2, O = (a - conj(b)) / 2i and W = exp(-2 pi i k / n):
+        // X[k] = E + W O and X[half-k] = conj(E - W O).
+        double[] w = TWIDDLES.get(n, RealFFT::twiddles);
+        double scale = 1.0 / n;
+        for (int k = 1; k <= half / 2; k++) {
+            int l = half - k;
+            double eRe = 0.5 * (re[k] + re[l]);
+            double eIm = 0.5 * (im[k] - im[l]);
+            double oRe = 0.5 * (im[k] + im[l]);
+            double oIm = -0.5 * (re[k] - re[l]);
+            double wRe = w[2 * k];
+            double wIm = w[2 * k + 1];
+            double woRe = wRe * oRe - wIm * oIm;
+            double woIm = wRe * oIm + wIm * oRe;
+            re[k] = scale * (eRe + woRe);
+            im[k] = scale * (eIm + woIm);
+            re[l] = scale * (eRe - woRe);
+            im[l] = -scale * (eIm - woIm);
+        }
+        double z0Re = re[0];
+        double z0Im = im[0];
+        re[0] = scale * (z0Re + z0Im);
+        im[0] = 0;
+        re[half] = scale * (z0Re - z0Im);
+        im[half] = 0;
+    }
+
+    /**
+     * Compute the inverse fast Fourier transform of a Hermitian vector, given by its bins 0, ..., n/2.
+     * @param c bins 0, ..., n/2 as returned by rfft. It is not modified.
+     * @param n length of the real result.
+     * @return real vector x with rfft(x) == c.
+     */
+    public static double[] irfft(Complex[] c, int n) {
+        int bins = n / 2 + 1;
+        if (c.length < bins) {
+            throw new IllegalArgumentException("expected at least " + bins + " bins, got " + c.length);
+        }
+        double[] re = new double[bins];
+        double[] im = new double[bins];
+        for (int k = 0; k < bins; k++) {
+            re[k] = c[k].getReal();
+            im[k] = c[k].getImaginary();
+        }
+        double[] x = new double[n];
+
+        irfft(re, im, x);
+
+        return x;
+    }
+
+    /**
+     * Compute the inverse fast Fourier transform of a Hermitian vector, given by its bins 0, ..., n/2, where n is
+     * the length of x. The imaginary parts of bin 0 (and of bin n/2 for even n) are ignored.
+     * @param re real parts of the bins 0, ..., n/2. It is not modified.
+     * @param im imaginary parts of the bins 0, ..., n/2. It is not modified.
+     * @param x overwritten with the real vector, whose rfft are the given bins.
+     */
+    public static void irfft(double[] re, double[] im, double[] x) {
+        int n = x.length;
+        int bins = n / 2 + 1;
+        if (re.length < bins || im.length < bins) {
+            throw new IllegalArgumentException("expected at least " + bins + " bins");
+        }
+
+        if (n % 2 != 0) {
+            double[] zRe = new double[n];
+            double[] zIm = new double[n];
+            zRe[0] = re[0];
+            for (int k = 1; k < bins; k++) {
+                zRe[k] = zRe[n - k] = re[k];
+                zIm[k] = im[k];
+                zIm[n - k] = -im[k];
+            }
+            FFTPlan.forSize(n).inverse(zRe, zIm);
+            System.arraycopy(zRe, 0, x, 0, n);
+            return;
+        }
+
+        // Undo the split of rfft: Z[k] = E + i O with E = X[k] + conj(X[half-k]) and
+        // O = (X[k] - conj(X[half-k])) conj(W). The factor 2 compensates the length half of the packed transform.
+        // The transform of the conjugate is computed, so that the forward transform yields the inverse.
+        int half = n / 2;
+        double[] zRe = new double[half];
+        double[] zIm = new double[half];
+        double[] w = TWIDDLES.get(n, RealFFT::twiddles);
+        for (int k = 1; k <= half / 2; k++) {
+            int l = half - k;
+            double eRe = re[k] + re[l];
+            double eIm = im[k] - im[l];
+            double dRe = re[k] - re[l];
+            double dIm = im[k] + im[l];
+            double wRe = w[2 * k];
+            double wIm = -w[2 * k + 1];
+            double oRe = dRe * wRe - dIm * wIm;
+            double oIm = dRe * wIm + dIm * wRe;
+            // Z[k] = E + i O, Z[half-k] = conj(E) + i conj(O)
+            zRe[k] = eRe - oIm;
+            zIm[k] = -(eIm + oRe);
+            zRe[l] = eRe + oIm;
+            zIm[l] = -(oRe - eIm);
+        }
+        zRe[0] = re[0] + re[half];
+        zIm[0] = -(re[0] - re[half]);
+
+        FFTPlan.forSize(half).transform(zRe, zIm);
+
+        for (int j = 0; j < half; j++) {
+            x[2 * j] = zRe[j];
+            x[2 * j + 1] = -zIm[j];
+        }
+    }
+
+    /**
+     * Computes the twiddle factors needed to split a packed transform of length n.
+     */
+    private static double[] twiddles(int n) {
+        int count = n / 4 + 1;
+        double[] w = new double[2 * count];
+        for (int k = 0; k < count; k++) {
+            double phi = -2 * Math.PI * k / n;
+            w[2 * k] = Math.cos(phi);
+            w[2 * k + 1] = Math.sin(phi);
+        }
+        return w;
+    }
+}
@@ -0,0 +1,125 @@
+package fourier;
+
+import java.util.Arrays;
+
+/**
+ * Streaming short-time Fourier transform. Samples are pushed one by one or in blocks. As soon as windowSize samples
+ * are available and then every hop samples, the last windowSize samples are multiplied with the window function and
+ * transformed with RealFFT. The bins 0, ..., windowSize/2 are passed to a listener.
+ * The samples are kept in a ring buffer and all buffers are allocated once, so memory is bounded by the window size.
+ * For window sizes, whose half is a power of two, pushing samples doesn't allocate at all.
+ */
+public class STFT {
+    /**
+     * Receives the transformed frames.
+     */
+    @FunctionalInterface
+    public interface FrameListener {
+        /**
+         * Called for every frame. The arrays are reused for the next frame, so they have to be copied, if they are
+         * needed later on.
+         * @param frame number of the frame, starting with 0.
+         * @param re real parts of the bins 0, ..., windowSize/2.
+         * @param im imaginary parts of the bins 0, ..., windowSize/2.
+         */
+        void frame(long frame, double[] re, double[] im);
+    }
+
+    private final int windowSize;
+    private final int hop;
+    private final double[] window;
+    private final FrameListener listener;
+
+    /**
+     * The last windowSize samples, the oldest one at position next.
+     */
+    private final double[] ring;
+    private int next;
+
+    /**
+     * Work buffer for the windowed frame and the transformed bins.
+     */
+    private final double[] frame;
+    private final double[] re;
+    private final double[] im;
+
+    /**
+     * Number of samples, until the next frame is due.
+     */
+    private int remaining;
+    private long frames;
+
+    /**
+     * @param windowSize number of samples per frame.
+     * @param hop number of samples between the starts of two consecutive frames.
+     * @param windowFunction window, which is applied to each frame.
+     * @param listener receives the transformed frames.
+     */
+    public STFT(int windowSize, int hop, WindowFunction windowFunction, FrameListener listener) {
+        if (windowSize < 1 || hop < 1) {
+            throw new IllegalArgumentException("window size and hop must be positive");
+        }
+        this.windowSize = windowSize;
+        this.hop = hop;
+        this.window = windowFunction.coefficients(windowSize);
+        this.listener = listener;
+        this.ring = new double[windowSize];
+        this.frame = new double[windowSize];
+        this.re = new double[windowSize / 2 + 1];
+        this.im = new double[windowSize / 2 + 1];
+        this.remaining = windowSize;
+    }
+
+    /**
+     * Adds one sample, calls the listener if a frame is complete.
+     */
+    public void push(double sample) {
+        ring[next] = sample;
+        next = next + 1 == windowSize ? 0 : next + 1;
+
+        if (--remaining == 0) {
+            emit();
+            remaining = hop;
+        }
+    }
+
+    /**
+     * Adds the samples samples[offset], ..., samples[offset + length - 1].
+     */
+    public void push(double[] samples, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            push(samples[i]);
+        }
+    }
+
+    /**
+     * Returns the number of frames, which have been passed to the listener.
+     */
+    public long getFrameCount() {
+        return frames;
+    }
+
+    /**
+     * Forgets all samples, the next frame is emitted after windowSize new samples.
+     */
+    public void reset() {
+        Arrays.fill(ring, 0);
+        next = 0;
+        remaining = windowSize;
+        frames = 0;
+    }
+
+    private void emit() {
+        // unwrap the ring buffer, oldest sample first
+        int tail = windowSize - next;
+        for (int j = 0; j < tail; j++) {
+            frame[j] = ring[next + j] * window[j];
+        }
+        for (int j = tail; j < windowSize; j++) {
+            frame[j] = ring[j - tail] * window[j];
+        }
+
+        RealFFT.rfft(frame, re, im);
+        listener.frame(frames++, re, im);
+    }
+}
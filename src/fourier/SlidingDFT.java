@@ -0,0 +1,140 @@
+package fourier;
+
+import java.util.Arrays;
+
+/**
+ * Sliding discrete Fourier transform of a few selected bins over the last n samples of a stream.
+ * When a new sample x_t arrives and x_{t-n} leaves the window, every bin is updated in O(1) by
+ * X_k(t) = exp(2 pi i k / n) * (r X_k(t-1) + x_t - r^n x_{t-n}),
+ * so tracking m bins costs O(m) per sample instead of a transform of the whole window.
+ * With the damping factor r = 1, the result is exactly the DFT of the window (oldest sample first, same scaling as
+ * DFT.dft), but rounding errors are never forgotten. A damping factor slightly below 1 (e.g. 0.9999) makes the
+ * recurrence stable for unbounded streams at the cost of a slightly tapered window.
+ */
+public class SlidingDFT {
+    private final int n;
+    private final int[] bins;
+    private final double damping;
+    private final double dampingN;
+
+    /**
+     * exp(2 pi i k / n) for the tracked bins k.
+     */
+    private final double[] rotRe;
+    private final double[] rotIm;
+
+    /**
+     * Unscaled values of the tracked bins.
+     */
+    private final double[] re;
+    private final double[] im;
+
+    /**
+     * The last n samples, the oldest one at position next.
+     */
+    private final double[] ring;
+    private int next;
+
+    /**
+     * Creates a sliding DFT without damping.
+     * @param n window length.
+     * @param bins indices of the tracked bins, between 0 and n - 1.
+     */
+    public SlidingDFT(int n, int[] bins) {
+        this(n, bins, 1.0);
+    }
+
+    /**
+     * @param n window length.
+     * @param bins indices of the tracked bins, between 0 and n - 1.
+     * @param damping damping factor r with 0 < r <= 1.
+     */
+    public SlidingDFT(int n, int[] bins, double damping) {
+        if (n < 1) {
+            throw new IllegalArgumentException("window length must be positive, got " + n);
+        }
+        if (!(damping > 0 && damping <= 1)) {
+            throw new IllegalArgumentException("damping must be in (0, 1], got " + damping);
+        }
+        this.n = n;
+        this.bins = bins.clone();
+        this.damping = damping;
+        this.dampingN = Math.pow(damping, n);
+        this.rotRe = new double[bins.length];
+        this.rotIm = new double[bins.length];
+        for (int i = 0; i < bins.length; i++) {
+            if (bins[i] < 0 || bins[i] >= n) {
+                throw new IllegalArgumentException("bin " + bins[i] + " out of range");
+            }
+            double phi = 2 * Math.PI * bins[i] / n;
+            rotRe[i] = Math.cos(phi);
+            rotIm[i] = Math.sin(phi);
+        }
+        this.re = new double[bins.length];
+        this.im = new double[bins.length];
+        this.ring = new double[n];
+    }
+
+    /**
+     * Adds one sample and updates all tracked bins.
+     */
+    public void push(double sample) {
+        double delta = sample - dampingN * ring[next];
+        ring[next] = sample;
+        next = next + 1 == n ? 0 : next + 1;
+
+        for (int i = 0; i < bins.length; i++) {
+            double aRe = damping * re[i] + delta;
+            double aIm = damping * im[i];
+            re[i] = rotRe[i] * aRe - rotIm[i] * aIm;
+            im[i] = rotRe[i] * aIm + rotIm[i] * aRe;
+        }
+    }
+
+    /**
+     * Adds the samples samples[offset], ..., samples[offset + length - 1].
+     */
+    public void push(double[] samples, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            push(samples[i]);
+        }
+    }
+
+    /**
+     * Returns the i-th tracked bin.
+     */
+    public Complex getBin(int i) {
+        return new Complex(re[i] / n, im[i] / n);
+    }
+
+    /**
+     * Returns the real part of the i-th tracked bin.
+     */
+    public double getReal(int i) {
+        return re[i] / n;
+    }
+
+    /**
+     * Returns the imaginary part of the i-th tracked bin.
+     */
+    public double getImaginary(int i) {
+        return im[i] / n;
+    }
+
+    /**
+     * Returns the absolute value of the i-th tracked bin.
+     */
+    public double getAbs(int i) {
+        return Math.sqrt(re[i] * re[i] + im[i] * im[i]) / n;
+    }
+
+    /**
+     * Forgets all samples.
+     */
+    public void reset() {
+        Arrays.fill(ring, 0);
+        Arrays.fill(re, 0);
+        Arrays.fill(im, 0);
+        next = 0;
+    }
+}
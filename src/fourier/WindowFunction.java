@@ -0,0 +1,30 @@
+package fourier;
+
+/**
+ * Window functions, which are applied to a frame before it is transformed, to reduce spectral leakage.
+ * The periodic form is used, i.e. a window of length n is the first n values of the symmetric window of length n + 1,
+ * which is the common choice for overlapping frames.
+ */
+public enum WindowFunction {
+    RECTANGULAR,
+    HANN,
+    HAMMING,
+    BLACKMAN;
+
+    /**
+     * Returns the window of length n.
+     */
+    public double[] coefficients(int n) {
+        double[] w = new double[n];
+        for (int j = 0; j < n; j++) {
+            double phi = 2 * Math.PI * j / n;
+            w[j] = switch (this) {
+                case RECTANGULAR -> 1.0;
+                case HANN -> 0.5 - 0.5 * Math.cos(phi);
+                case HAMMING -> 0.54 - 0.46 * Math.cos(phi);
+                case BLACKMAN -> 0.42 - 0.5 * Math.cos(phi) + 0.08 * Math.cos(2 * phi);
+            };
+        }
+        return w;
+    }
+}
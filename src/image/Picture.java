@@ -195,25 +195,59 @@ public class Picture {
         // reserve space for the result
         double[][][] resultImageArray = new double[newWidth][newHeight][3];
         // Treat all colours independently
-        RBG_COLORS[] colors = {RBG_COLORS.RED, RBG_COLORS.GREEN, RBG_COLORS.BLUE};
-        for (RBG_COLORS c : colors) {
-            // First gather the old color values to interpolate
-            double[][] z = new double[width][height];
-            for (int i = 0; i < width; i++) {
-                for (int j = 0; j < height; j++) {
-                    z[i][j] = getPixel(i + 1, j + 1, c);
-                }
-            }
+        for (RBG_COLORS c : RBG_COLORS.values()) {
             // Evaluate the 2D interpolation
-            im2d.init(x, y, z);
-            double[][] result = im2d.evaluate(xNew, yNew);
-            // Store color values in result array
-            for (int i = 0; i < newWidth; i++) {
-                for (int j = 0; j < newHeight; j++) {
-                    resultImageArray[i][j][c.ordinal()] = result[i][j];
-                }
+            im2d.init(x, y, channel(c));
+            storeChannel(im2d.evaluate(xNew, yNew), c, resultImageArray);
+        }
+        setImage(resultImageArray, newWidth, newHeight);
+    }
+
+    /**
+     * Scales the image to dimension (newWidth, newHeight) like scale(int, int, InterpolationMethod2D), but with the
+     * cached weight matrices of the resampler. Keep the resampler to scale further images between the same sizes.
+     */
+    public void scale(int newWidth, int newHeight, Resampler resampler) {
+        double[] x = pixelCenters(width);
+        double[] y = pixelCenters(height);
+        double[] xNew = pixelCenters(newWidth);
+        double[] yNew = pixelCenters(newHeight);
+
+        double[][][] resultImageArray = new double[newWidth][newHeight][3];
+        for (RBG_COLORS c : RBG_COLORS.values()) {
+            storeChannel(resampler.evaluate(x, y, channel(c), xNew, yNew), c, resultImageArray);
+        }
+        setImage(resultImageArray, newWidth, newHeight);
+    }
+
+    /**
+     * Gathers the values of color channel c: z[i][j] is the value of pixel (i + 1, j + 1).
+     */
+    private double[][] channel(RBG_COLORS c) {
+        double[][] z = new double[width][height];
+        for (int i = 0; i < width; i++) {
+            for (int j = 0; j < height; j++) {
+                z[i][j] = getPixel(i + 1, j + 1, c);
             }
         }
+        return z;
+    }
+
+    /**
+     * Store color values of channel c in result array.
+     */
+    private static void storeChannel(double[][] values, RBG_COLORS c, double[][][] resultImageArray) {
+        for (int i = 0; i < values.length; i++) {
+            for (int j = 0; j < values[i].length; j++) {
+                resultImageArray[i][j][c.ordinal()] = values[i][j];
+            }
+        }
+    }
+
+    /**
+     * Replaces the image by a new one of dimension (newWidth, newHeight) with the given rbg values.
+     */
+    private void setImage(double[][][] resultImageArray, int newWidth, int newHeight) {
         // Create new picture.
         this.img = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_ARGB);
         this.img.createGraphics();
@@ -229,7 +263,5 @@ public class Picture {
                 this.setPixel(i, j, red, green, blue);
             }
         }
-
     }
 }
-
@@ -0,0 +1,87 @@
+package interpolation;
+
+import java.util.Arrays;
+
+/**
+ * Interpolation polynomial in the barycentric form
+ * p(z) = (sum_j w_j y_j / (z - x_j)) / (sum_j w_j / (z - x_j)).
+ * The weights w_j = 1 / prod_{k != j} (x_j - x_k) only depend on the grid points. For equidistant grid points, they
+ * are proportional to (-1)^j binomial(n, j) and are computed in O(n), otherwise in O(n^2) time. The memory is O(n) in
+ * both cases and every evaluation costs O(n).
+ * The weights are scaled by a common factor, which cancels in the formula. For equidistant grids with more than about
+ * a thousand intervals, the outermost weights underflow to 0. The polynomial is extremely ill-conditioned there anyway.
+ */
+public class BarycentricPolynomial extends InterpolationMethod implements NonUniformInterpolation {
+    /**
+     * Barycentric weights of the grid points.
+     */
+    private double[] weights;
+
+    @Override
+    public void init(double newA, double newB, double[] newY) {
+        super.init(newA, newB, newY);
+
+        // w_j / w_{j-1} = -(n - j + 1) / j, start with 1 in the middle, where |w_j| is largest
+        double[] w = new double[n + 1];
+        int mid = n / 2;
+        w[mid] = 1;
+        for (int j = mid + 1; j <= n; j++) {
+            w[j] = -w[j - 1] * (n - j + 1) / j;
+        }
+        for (int j = mid - 1; j >= 0; j--) {
+            w[j] = -w[j + 1] * (j + 1) / (n - j);
+        }
+        this.weights = w;
+    }
+
+    @Override
+    public void init(double[] newX, double[] newY) {
+        initGrid(newX, newY);
+
+        // multiply every difference with 4 / (b - a), so that the products neither overflow nor underflow
+        double scale = 4 / (b - a);
+        double[] w = new double[n + 1];
+        double max = 0;
+        for (int j = 0; j <= n; j++) {
+            double product = 1;
+            for (int k = 0; k <= n; k++) {
+                if (k != j) {
+                    product *= scale * (x[j] - x[k]);
+                }
+            }
+            w[j] = 1 / product;
+            max = Math.max(max, Math.abs(w[j]));
+        }
+        for (int j = 0; j <= n; j++) {
+            w[j] /= max;
+        }
+        this.weights = w;
+    }
+
+    /**
+     * Replaces the values to interpolate. The grid points and therefore the weights stay the same, so this is O(n).
+     * @param newY values at the grid points of the last init, has to have the same length.
+     */
+    public void setValues(double[] newY) {
+        if (newY.length != y.length) {
+            throw new IllegalArgumentException("expected " + y.length + " values, got " + newY.length);
+        }
+        this.y = Arrays.copyOf(newY, newY.length);
+    }
+
+    @Override
+    public double evaluate(double z) {
+        double numerator = 0;
+        double denominator = 0;
+        for (int j = 0; j <= n; j++) {
+            double d = z - x[j];
+            if (d == 0) {
+                return y[j];
+            }
+            double t = weights[j] / d;
+            numerator += t * y[j];
+            denominator += t;
+        }
+        return numerator / denominator;
+    }
+}
@@ -0,0 +1,159 @@
+package interpolation;
+
+import fourier.FFTPlan;
+
+import java.util.Arrays;
+
+/**
+ * Polynomial interpolation in the Chebyshev points of the first kind. Unlike equidistant high-degree interpolation,
+ * this stays well-conditioned for any number of points, and for smooth functions the coefficients decay fast, so most
+ * of them can be dropped with truncate.
+ * The polynomial is stored in the Chebyshev basis, p(z) = sum_k c_k T_k(t) with t = (2z - a - b) / (b - a) in [-1, 1].
+ * The coefficients are a discrete cosine transform of the values, which is computed with one FFT of the same length in
+ * O(n log n). Evaluation uses the Clenshaw recurrence in O(number of coefficients).
+ * Values at the Chebyshev points are passed to fitAtChebyshevNodes. init takes values at equidistant grid points like
+ * all other methods, and gives the same interpolation polynomial as BarycentricPolynomial; it evaluates that polynomial
+ * at the Chebyshev points first, which costs O(n^2), and is as ill-conditioned as equidistant interpolation.
+ */
+public class ChebyshevInterpolation extends InterpolationMethod {
+    /**
+     * Center and half width of the interval, on which the polynomial is defined.
+     */
+    private double center;
+    private double halfWidth;
+
+    /**
+     * Coefficients c_0, ..., c_m of the polynomial in the Chebyshev basis.
+     */
+    private double[] coefficients;
+
+    /**
+     * Returns the Chebyshev points of the first kind for the interval [a, b] in increasing order:
+     * x_j = (a + b) / 2 - (b - a) / 2 * cos(pi (j + 1/2) / count).
+     * These are the points, at which fitAtChebyshevNodes expects the values.
+     * @param a left end of the interval
+     * @param b right end of the interval
+     * @param count number of points, at least 1.
+     */
+    public static double[] nodes(double a, double b, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("need at least one point, got " + count);
+        }
+        double[] nodes = new double[count];
+        for (int j = 0; j < count; j++) {
+            nodes[j] = (a + b) / 2 - (b - a) / 2 * Math.cos(Math.PI * (j + 0.5) / count);
+        }
+        return nodes;
+    }
+
+    /**
+     * Initialize the interpolation polynomial of the values at equidistant grid points in [a, b].
+     * The polynomial is evaluated at the Chebyshev points in O(n^2) and converted to the Chebyshev basis. Prefer
+     * fitAtChebyshevNodes if the function can be sampled there.
+     * @param newA leftmost grid point
+     * @param newB rightmost grid point
+     * @param newY values at the equidistant grid points, at least two.
+     */
+    @Override
+    public void init(double newA, double newB, double[] newY) {
+        super.init(newA, newB, newY);
+        this.center = (newA + newB) / 2;
+        this.halfWidth = (newB - newA) / 2;
+
+        BarycentricPolynomial equidistant = new BarycentricPolynomial();
+        equidistant.init(newA, newB, newY);
+        double[] values = new double[newY.length];
+        equidistant.evaluate(nodes(newA, newB, newY.length), values);
+        computeCoefficients(values);
+    }
+
+    /**
+     * Initialize the interpolation on the interval [a, b] with the values at the Chebyshev points
+     * nodes(newA, newB, newY.length). a and b of the grid are the outermost Chebyshev points.
+     * @param newA left end of the interval
+     * @param newB right end of the interval
+     * @param newY values at the Chebyshev points, at least two.
+     */
+    public void fitAtChebyshevNodes(double newA, double newB, double[] newY) {
+        assert newA < newB;
+        initGrid(nodes(newA, newB, newY.length), newY);
+        this.center = (newA + newB) / 2;
+        this.halfWidth = (newB - newA) / 2;
+
+        computeCoefficients(newY);
+    }
+
+    /**
+     * Computes c_k = 2/N sum_j f_j cos(pi k (j + 1/2) / N) (c_0 with 1/N), where f_j = y[N - 1 - j] is the value at
+     * cos(pi (j + 1/2) / N). The sum is a DCT-II, which is reduced to a complex FFT of the same length: with
+     * v = (f_0, f_2, f_4, ..., f_5, f_3, f_1) and its transform V, the sum is Re(exp(-i pi k / (2N)) V_k).
+     */
+    private void computeCoefficients(double[] y) {
+        int count = y.length;
+        double[] re = new double[count];
+        double[] im = new double[count];
+        for (int j = 0; 2 * j < count; j++) {
+            re[j] = y[count - 1 - 2 * j];
+        }
+        for (int j = 0; 2 * j + 1 < count; j++) {
+            re[count - 1 - j] = y[count - 2 - 2 * j];
+        }
+
+        // forward scales with 1/N
+        FFTPlan.forSize(count).forward(re, im);
+
+        double[] c = new double[count];
+        for (int k = 0; k < count; k++) {
+            double angle = Math.PI * k / (2.0 * count);
+            c[k] = 2 * (Math.cos(angle) * re[k] + Math.sin(angle) * im[k]);
+        }
+        c[0] /= 2;
+        this.coefficients = c;
+    }
+
+    /**
+     * Drops the trailing coefficients, whose absolute value is at most tolerance times the largest absolute value of
+     * all coefficients. The error of the polynomial grows at most by the sum of the dropped coefficients.
+     * @param tolerance relative tolerance, e.g. 1e-14 to drop only the coefficients at the level of rounding errors.
+     * @return number of remaining coefficients, at least 1.
+     */
+    public int truncate(double tolerance) {
+        double max = 0;
+        for (double c : coefficients) {
+            max = Math.max(max, Math.abs(c));
+        }
+        int m = coefficients.length;
+        while (m > 1 && Math.abs(coefficients[m - 1]) <= tolerance * max) {
+            m--;
+        }
+        coefficients = Arrays.copyOf(coefficients, m);
+        return m;
+    }
+
+    /**
+     * Returns a copy of the coefficients c_0, ..., c_m in the Chebyshev basis.
+     */
+    public double[] getCoefficients() {
+        return coefficients.clone();
+    }
+
+    /**
+     * Evaluates the polynomial with the Clenshaw recurrence
+     * b_k = c_k + 2t b_{k+1} - b_{k+2}, p = c_0 + t b_1 - b_2.
+     * Outside the interval of init, the polynomial is extrapolated.
+     */
+    @Override
+    public double evaluate(double z) {
+        double[] c = coefficients;
+        double t = (z - center) / halfWidth;
+        double t2 = 2 * t;
+        double b1 = 0;
+        double b2 = 0;
+        for (int k = c.length - 1; k >= 1; k--) {
+            double b0 = c[k] + t2 * b1 - b2;
+            b2 = b1;
+            b1 = b0;
+        }
+        return c[0] + t * b1 - b2;
+    }
+}
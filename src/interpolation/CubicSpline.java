@@ -1,60 +1,221 @@
 package interpolation;
 
-import linalg.TridiagonalMatrix;
+import linalg.ToeplitzTridiagonalMatrix;
 
 public class CubicSpline extends InterpolationMethod {
     // Derivatives at the grid points
     private double[] yPrime;
-    private double[] x;
+
+    /**
+     * Whether the polynomial coefficients and the integrals are built in init, and used by evaluate, derivative and
+     * integrate instead of the Hermite basis functions.
+     */
+    private final boolean precomputeCoefficients;
+
+    /**
+     * Coefficients of the cubic polynomial on every interval in the local variable t = (z - x_i) / h:
+     * q_i(t) = coefficients[4i] + coefficients[4i+1] t + coefficients[4i+2] t^2 + coefficients[4i+3] t^3.
+     * Computed together with the derivatives in init if precomputeCoefficients is set, so evaluation only reads the
+     * fitted state. Otherwise null.
+     */
+    private double[] coefficients;
+
+    /**
+     * integrals[i] is the integral of the spline from a to x_i. Only built together with the coefficients.
+     */
+    private double[] integrals;
+
+    public CubicSpline() {
+        this(false);
+    }
+
+    /**
+     * @param precomputeCoefficients if true, init stores the coefficients of the cubic polynomial of every interval
+     *                               (4 n doubles) and the integrals up to every grid point (n + 1 doubles). evaluate
+     *                               then only needs a Horner step with three multiplications, and integrate is O(1).
+     */
+    public CubicSpline(boolean precomputeCoefficients) {
+        this.precomputeCoefficients = precomputeCoefficients;
+    }
 
     @Override
     public void init(double a, double b, double[] y) {
         super.init(a, b, y);
 
-        this.x = new double[y.length];
-        for (int i = 0; i < x.length; i++) {
-            x[i] = a + i * h;
-        }
-
         computeDerivatives();
     }
 
     /**
      * Computes the derivatives at the grid points.
      * Therefore, we construct a linear system Ax = b and solve it.
-     * We solve the system and store the derivatives in yPrime.
+     * We solve the system and store the derivatives in yPrime. Afterwards, the coefficients are updated if they are
+     * precomputed.
      */
     public void computeDerivatives() {
-        // Hint: this function might be useful.
-        // y array:= [y0,y1,...,yn]-> size = n+1
-        int matrixSize =  y.length - 2;
-        double h = (b - a) / n;
-        double[] tmp = new double[matrixSize];
-        yPrime = new double[y.length];
-        yPrime[0] = yPrime[yPrime.length - 1] = 0;
-
-        // left side of equation init
-        TridiagonalMatrix leftSideMatrix = new TridiagonalMatrix(matrixSize);
-        leftSideMatrix.setDiagonal(4.0);
-        leftSideMatrix.setUpper(1.0);
-        leftSideMatrix.setLower(1.0);
-
-        // right side of equation init
-        double factor = 3/h;
-        double[] rightSideVector = new double[matrixSize];
-
-        // y'0 and y'n = 0, fill in the first and last value
-        rightSideVector[0] = factor * (y[2] - y[0]);
-        rightSideVector[matrixSize - 1] = factor * (y[n] - y[n-2]);
-
-        // fill in rightSideVector
-        for (int i = 1; i < matrixSize - 1; i++) {
-            rightSideVector[i] = factor * (y[i+2] - y[i]);
+        yPrime = derivatives(y, 1, h);
+        if (precomputeCoefficients) {
+            computeCoefficients();
+        }
+    }
+
+    /**
+     * Computes the derivatives at the grid points of k series on the same equidistant grid, where value i of series s
+     * is y[i * k + s]. The derivatives are interleaved the same way.
+     * With y'0 = y'n = 0, the derivatives y'1, ..., y'(n-1) solve the system
+     * y'(i-1) + 4 y'i + y'(i+1) = 3/h (y(i+1) - y(i-1)), i = 1, ..., n - 1,
+     * which is eliminated only once for all series.
+     */
+    static double[] derivatives(double[] y, int k, double h) {
+        int matrixSize = y.length / k - 2;
+
+        // left side of equation init: the constant matrix (1, 4, 1) doesn't store its diagonals
+        ToeplitzTridiagonalMatrix leftSideMatrix = new ToeplitzTridiagonalMatrix(matrixSize, 1.0, 4.0, 1.0);
+
+        // right side of equation init, row r belongs to grid point r + 1
+        double factor = 3 / h;
+        double[] rightSide = new double[matrixSize * k];
+        for (int r = 0; r < matrixSize; r++) {
+            int row = r * k;
+            for (int s = 0; s < k; s++) {
+                rightSide[row + s] = factor * (y[row + 2 * k + s] - y[row + s]);
+            }
+        }
+
+        if (k == 1) {
+            leftSideMatrix.solve(rightSide);
+        } else {
+            leftSideMatrix.solveInterleaved(rightSide, k);
         }
 
-        tmp = leftSideMatrix.solveLinearSystem(rightSideVector);
+        // y'0 and y'n = 0
+        double[] yPrime = new double[y.length];
+        System.arraycopy(rightSide, 0, yPrime, k, rightSide.length);
+        return yPrime;
+    }
+
+    /**
+     * Evaluates the cubic Hermite polynomial with the values y0, y1 and the derivatives d0, d1 at the ends of an
+     * interval of width h, at the local variable t = (z - x_i) / h.
+     */
+    static double hermite(double t, double h, double y0, double y1, double d0, double d1) {
+        double t2 = t * t;
+        double t3 = t2 * t;
+        double H0 = 1 - 3 * t2 + 2 * t3;
+        double H1 = 3 * t2 - 2 * t3;
+        double H2 = t - 2 * t2 + t3;
+        double H3 = t3 - t2;
+        return y0 * H0 + y1 * H1 + h * (d0 * H2 + d1 * H3);
+    }
+
+    /**
+     * Derivative of the Hermite polynomial with respect to z (not t) at the local variable t.
+     */
+    private static double hermiteDerivative(double t, double h, double y0, double y1, double d0, double d1) {
+        double dH1 = 6 * t * (1 - t);
+        double dH2 = 1 - 4 * t + 3 * t * t;
+        double dH3 = t * (3 * t - 2);
+        return (y1 - y0) * dH1 / h + d0 * dH2 + d1 * dH3;
+    }
+
+    /**
+     * Integral of the Hermite polynomial over [x_i, x_i + t h].
+     */
+    private static double hermiteIntegral(double t, double h, double y0, double y1, double d0, double d1) {
+        double t2 = t * t;
+        double t3 = t2 * t;
+        double t4 = t3 * t;
+        double I1 = t3 - t4 / 2;
+        double I0 = t - I1;
+        double I2 = t2 / 2 - 2 * t3 / 3 + t4 / 4;
+        double I3 = t4 / 4 - t3 / 3;
+        return h * (y0 * I0 + y1 * I1 + h * (d0 * I2 + d1 * I3));
+    }
 
-        System.arraycopy(tmp, 0, yPrime, 1, tmp.length);
+    /**
+     * Converts the Hermite form into the polynomial coefficients of every interval and sums up the integrals over the
+     * intervals.
+     */
+    private void computeCoefficients() {
+        double[] c = new double[4 * n];
+        double[] sums = new double[n + 1];
+        for (int i = 0; i < n; i++) {
+            double d0 = h * yPrime[i];
+            double d1 = h * yPrime[i + 1];
+            c[4 * i] = y[i];
+            c[4 * i + 1] = d0;
+            c[4 * i + 2] = 3 * (y[i + 1] - y[i]) - 2 * d0 - d1;
+            c[4 * i + 3] = 2 * (y[i] - y[i + 1]) + d0 + d1;
+            sums[i + 1] = sums[i] + h * (c[4 * i] + c[4 * i + 1] / 2 + c[4 * i + 2] / 3 + c[4 * i + 3] / 4);
+        }
+        integrals = sums;
+        coefficients = c;
+    }
+
+    /**
+     * Evaluates the derivative of the spline at z. Outside [a, b], the spline is constant, so the derivative is 0.
+     */
+    public double derivative(double z) {
+        if (z < a || z > b) return 0;
+
+        int i = findInterval(z);
+        double t = (z - x[i]) / h;
+        if (!precomputeCoefficients) {
+            return hermiteDerivative(t, h, y[i], y[i + 1], yPrime[i], yPrime[i + 1]);
+        }
+        int c = 4 * i;
+        return (coefficients[c + 1] + t * (2 * coefficients[c + 2] + t * 3 * coefficients[c + 3])) / h;
+    }
+
+    /**
+     * Computes the integral of the spline from lower to upper. Outside [a, b], the spline is continued with the
+     * constant values y[0] and y[n] like in evaluate.
+     * With precomputed coefficients, this is O(1). Otherwise, the integrals over all intervals between lower and upper
+     * are summed up, which is O(n) in the worst case.
+     */
+    public double integrate(double lower, double upper) {
+        if (precomputeCoefficients) {
+            return antiderivative(upper) - antiderivative(lower);
+        }
+        if (lower > upper) {
+            return -integrate(upper, lower);
+        }
+
+        double result = 0;
+        if (lower < a) {
+            result += (Math.min(upper, a) - lower) * y[0];
+        }
+        if (upper > b) {
+            result += (upper - Math.max(lower, b)) * y[n];
+        }
+        double from = Math.max(lower, a);
+        double to = Math.min(upper, b);
+        if (from >= to) {
+            return result;
+        }
+
+        int first = findInterval(from);
+        int last = findInterval(to);
+        for (int i = first; i < last; i++) {
+            result += hermiteIntegral(1, h, y[i], y[i + 1], yPrime[i], yPrime[i + 1]);
+        }
+        result += hermiteIntegral((to - x[last]) / h, h, y[last], y[last + 1], yPrime[last], yPrime[last + 1]);
+        result -= hermiteIntegral((from - x[first]) / h, h, y[first], y[first + 1], yPrime[first], yPrime[first + 1]);
+        return result;
+    }
+
+    /**
+     * Returns the integral of the spline from a to z, using the precomputed integrals.
+     */
+    private double antiderivative(double z) {
+        if (z < a) return (z - a) * y[0];
+        if (z > b) return integrals[n] + (z - b) * y[n];
+
+        int i = findInterval(z);
+        double t = (z - x[i]) / h;
+        int c = 4 * i;
+        double q = t * (coefficients[c] + t * (coefficients[c + 1] / 2
+                + t * (coefficients[c + 2] / 3 + t * coefficients[c + 3] / 4)));
+        return integrals[i] + h * q;
     }
 
     /**
@@ -63,26 +224,83 @@ public class CubicSpline extends InterpolationMethod {
      */
     @Override
     public double evaluate(double z) {
-        if (yPrime == null) {
-            computeDerivatives();
-        }
+        // Find the interval [x_i, x_i+1] that contains z
+        return evaluate(z, findInterval(z));
+    }
+
+    @Override
+    protected double evaluate(double z, int i) {
         // edge case: z outside interval
         if (z < a) return y[0];
         if (z > b) return y[y.length - 1];
 
-        // Find the interval [x_i, x_i+1] that contains z
-        int i = Math.min(Math.max((int) Math.floor((z - a) / h), 0), y.length - 2);
-
         // Transform z to the interval [0, 1]
         double t = (z - x[i]) / h;
 
+        if (precomputeCoefficients) {
+            int c = 4 * i;
+            return coefficients[c] + t * (coefficients[c + 1] + t * (coefficients[c + 2] + t * coefficients[c + 3]));
+        }
+
         // Evaluate the polynomial q at t
-        double H0 = 1 - 3 * (t * t) + 2 * (t * t * t);
-        double H1 = 3 * (t * t) - 2 * (t * t * t);
-        double H2 = t - 2 * (t * t) + (t * t * t);
-        double H3 = -(t * t) + (t * t * t);
+        return hermite(t, h, y[i], y[i + 1], yPrime[i], yPrime[i + 1]);
+    }
 
-        return y[i] * H0 + y[i + 1] * H1 + h * yPrime[i] * H2 + h * yPrime[i + 1] * H3;
+    @Override
+    public void evaluate(double[] z, int zOffset, double[] result, int resultOffset, int length) {
+        checkRange(z, zOffset, result, resultOffset, length);
+        double[] y = this.y;
+        double[] yPrime = this.yPrime;
+        double a = this.a;
+        double b = this.b;
+        double h = this.h;
+        double invH = 1.0 / h;
+        int last = y.length - 2;
+        double[] x = this.x;
+
+        if (precomputeCoefficients) {
+            double[] c = coefficients;
+            for (int k = 0; k < length; k++) {
+                double zk = z[zOffset + k];
+                double value;
+                if (zk < a) {
+                    value = y[0];
+                } else if (zk > b) {
+                    value = y[last + 1];
+                } else {
+                    int i = findInterval(zk);
+                    double t = (zk - x[i]) * invH;
+                    int j = 4 * i;
+                    value = c[j] + t * (c[j + 1] + t * (c[j + 2] + t * c[j + 3]));
+                }
+                result[resultOffset + k] = value;
+            }
+            return;
+        }
+
+        for (int k = 0; k < length; k++) {
+            double zk = z[zOffset + k];
+            double value;
+            if (zk < a) {
+                value = y[0];
+            } else if (zk > b) {
+                value = y[last + 1];
+            } else {
+                int i = findInterval(zk);
+                double t = (zk - x[i]) * invH;
+                value = hermite(t, h, y[i], y[i + 1], yPrime[i], yPrime[i + 1]);
+            }
+            result[resultOffset + k] = value;
+        }
+    }
+
+    /**
+     * Fits all rows and columns of InterpolationMethod2D together, the splines are the same as with this class.
+     * Subclasses may evaluate differently, so they only get a fitter if they override this method themselves.
+     */
+    @Override
+    protected CubicSplineSeries seriesFitter() {
+        return getClass() == CubicSpline.class ? new CubicSplineSeries() : null;
     }
 
     // testing------------------------------------------------------
@@ -0,0 +1,151 @@
+package interpolation;
+
+/**
+ * Cubic splines for k data series, which share the same equidistant grid. Every series is interpolated exactly like
+ * CubicSpline does, but the linear system for the derivatives is set up and eliminated only once for all series.
+ * Values and derivatives are stored interleaved, i.e. the entries of all series at grid point i are the consecutive
+ * entries i * k, ..., i * k + k - 1. Evaluating all series at one point therefore reads two short contiguous blocks.
+ */
+public class CubicSplineSeries {
+    /**
+     * Leftmost and rightmost grid point.
+     */
+    private double a;
+    private double b;
+
+    /**
+     * Number of intervals and their width.
+     */
+    private int n;
+    private double h;
+
+    /**
+     * Number of series.
+     */
+    private int k;
+
+    /**
+     * Values to interpolate, value i of series s is y[i * k + s].
+     */
+    private double[] y;
+
+    /**
+     * Derivatives at the grid points, interleaved like y.
+     */
+    private double[] yPrime;
+
+    /**
+     * Initialize the splines on equidistant grid points.
+     * @param newA leftmost grid point
+     * @param newB rightmost grid point
+     * @param series values to interpolate, series[s][i] is value i of series s. All series need the same length.
+     */
+    public void init(double newA, double newB, double[][] series) {
+        int count = series.length;
+        int points = count == 0 ? 0 : series[0].length;
+        double[] interleaved = new double[points * count];
+        for (int s = 0; s < count; s++) {
+            if (series[s].length != points) {
+                throw new IllegalArgumentException("all series need the same length");
+            }
+            for (int i = 0; i < points; i++) {
+                interleaved[i * count + s] = series[s][i];
+            }
+        }
+        initInterleaved(newA, newB, interleaved, count);
+    }
+
+    /**
+     * Initialize the splines on equidistant grid points with interleaved values.
+     * The array is used directly and must not be modified afterwards.
+     * @param newA leftmost grid point
+     * @param newB rightmost grid point
+     * @param values values to interpolate, value i of series s is values[i * count + s].
+     * @param count number of series.
+     */
+    public void initInterleaved(double newA, double newB, double[] values, int count) {
+        assert newA < newB;
+        if (count < 1 || values.length % count != 0 || values.length / count < 3) {
+            throw new IllegalArgumentException("need at least three values per series");
+        }
+        this.a = newA;
+        this.b = newB;
+        this.k = count;
+        this.n = values.length / count - 1;
+        this.h = (newB - newA) / n;
+        this.y = values;
+
+        computeDerivatives();
+    }
+
+    /**
+     * Computes the derivatives at the grid points of all series with one elimination of the matrix (1, 4, 1), see
+     * CubicSpline.computeDerivatives.
+     */
+    private void computeDerivatives() {
+        yPrime = CubicSpline.derivatives(y, k, h);
+    }
+
+    /**
+     * Returns the number of series.
+     */
+    public int getSeriesCount() {
+        return k;
+    }
+
+    /**
+     * Evaluates the spline of one series at z. If z is outside [a, b], return its first or last value respectively.
+     */
+    public double evaluate(int series, double z) {
+        if (z < a) return y[series];
+        if (z > b) return y[n * k + series];
+
+        int i = interval(z);
+        double t = (z - (a + i * h)) / h;
+        int left = i * k + series;
+        int right = left + k;
+        return CubicSpline.hermite(t, h, y[left], y[right], yPrime[left], yPrime[right]);
+    }
+
+    /**
+     * Evaluates the splines of all series at z and stores the values in result[0], ..., result[k - 1].
+     */
+    public void evaluate(double z, double[] result) {
+        evaluate(z, result, 0);
+    }
+
+    /**
+     * Evaluates the splines of all series at z and stores the values in result[offset], ..., result[offset + k - 1].
+     */
+    public void evaluate(double z, double[] result, int offset) {
+        if (z < a) {
+            System.arraycopy(y, 0, result, offset, k);
+            return;
+        }
+        if (z > b) {
+            System.arraycopy(y, n * k, result, offset, k);
+            return;
+        }
+
+        // the basis of CubicSpline.hermite, computed once for all series
+        int i = interval(z);
+        double t = (z - (a + i * h)) / h;
+        double t2 = t * t;
+        double t3 = t2 * t;
+        double H0 = 1 - 3 * t2 + 2 * t3;
+        double H1 = 3 * t2 - 2 * t3;
+        double H2 = h * (t - 2 * t2 + t3);
+        double H3 = h * (t3 - t2);
+
+        int left = i * k;
+        int right = left + k;
+        for (int s = 0; s < k; s++) {
+            result[offset + s] = y[left + s] * H0 + y[right + s] * H1 + yPrime[left + s] * H2
+                    + yPrime[right + s] * H3;
+        }
+    }
+
+    private int interval(double z) {
+        return Math.min(Math.max((int) ((z - a) / h), 0), n - 1);
+    }
+}
@@ -0,0 +1,86 @@
+package interpolation;
+
+import java.util.function.Supplier;
+
+/**
+ * Immutable fitted interpolating function, which can be evaluated by many threads concurrently without locking.
+ * An Interpolant owns a fresh InterpolationMethod, which is initialized once in fit and never exposed, so init can't
+ * be called on it again. All values are copied in init, and the method is published through a final field, so every
+ * thread sees the fitted state. Evaluation only reads this state, the cursors of evaluateSorted are local to the call.
+ * <p>
+ * Example: one set of fitted tables is shared by all threads.
+ * <pre>
+ * Interpolant f = Interpolant.fit(CubicSpline::new, 0, 10, values);
+ * double v = f.evaluate(2.5);
+ * </pre>
+ */
+public final class Interpolant {
+    private final InterpolationMethod method;
+
+    private Interpolant(InterpolationMethod method) {
+        this.method = method;
+    }
+
+    /**
+     * Fits an interpolating function on equidistant grid points, see InterpolationMethod.init(double, double, double[]).
+     * @param factory creates the interpolation method, has to return a new instance on every call, e.g. CubicSpline::new.
+     * @param a leftmost grid point
+     * @param b rightmost grid point
+     * @param y values to interpolate
+     */
+    public static Interpolant fit(Supplier<? extends InterpolationMethod> factory, double a, double b, double[] y) {
+        InterpolationMethod method = factory.get();
+        method.init(a, b, y);
+        return new Interpolant(method);
+    }
+
+    /**
+     * Fits an interpolating function on arbitrary grid points, see NonUniformInterpolation.init.
+     * @param factory creates the interpolation method, has to return a new instance on every call, e.g.
+     *                PiecewiseLinear::new.
+     * @param x grid points
+     * @param y values to interpolate
+     */
+    public static <T extends InterpolationMethod & NonUniformInterpolation> Interpolant fit(Supplier<T> factory,
+                                                                                          double[] x, double[] y) {
+        T method = factory.get();
+        method.init(x, y);
+        return new Interpolant(method);
+    }
+
+    /**
+     * Evaluates the interpolating function at a point z.
+     */
+    public double evaluate(double z) {
+        return method.evaluate(z);
+    }
+
+    /**
+     * Evaluates the interpolating function at all points z and stores the values in result.
+     */
+    public void evaluate(double[] z, double[] result) {
+        method.evaluate(z, result);
+    }
+
+    /**
+     * Evaluates the interpolating function at the points z[zOffset], ..., z[zOffset + length - 1], see
+     * InterpolationMethod.evaluate(double[], int, double[], int, int).
+     */
+    public void evaluate(double[] z, int zOffset, double[] result, int resultOffset, int length) {
+        method.evaluate(z, zOffset, result, resultOffset, length);
+    }
+
+    /**
+     * Evaluates the interpolating function at (mostly) monotone points, see InterpolationMethod.evaluateSorted.
+     */
+    public void evaluateSorted(double[] z, int zOffset, double[] result, int resultOffset, int length) {
+        method.evaluateSorted(z, zOffset, result, resultOffset, length);
+    }
+
+    /**
+     * Creates a cursor for a sequence of (mostly) monotone evaluation points. Every thread needs its own cursor.
+     */
+    public InterpolationMethod.Cursor cursor() {
+        return method.cursor();
+    }
+}
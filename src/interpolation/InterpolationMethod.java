@@ -19,15 +19,32 @@ public abstract class InterpolationMethod {
     protected int n;
 
     /**
-     * Width of intervals.
+     * Width of intervals. For non-equidistant grids, this is the average width.
      */
     protected double h;
 
+    /**
+     * Grid points x0 < x1 < ... < xn.
+     */
+    protected double[] x;
+
+    /**
+     * Whether the grid points are equidistant, i.e. x[i] = a + i * h.
+     */
+    protected boolean uniform;
+
     /**
      * Values to interpolate.
      */
     protected double[] y;
 
+    /**
+     * Guide table for non-equidistant grids: the interval [a, b] is split into n buckets of equal width, guide[j] is
+     * the index of the interval, which contains the left end of bucket j.
+     */
+    private int[] guide;
+    private double bucketScale;
+
     /**
      * Initialize the interpolation method with equidistant grid points.
      * The parameters have to fulfill:
@@ -43,11 +60,231 @@ public abstract class InterpolationMethod {
         this.n = newY.length - 1;
         this.h = (newB - newA) / n;
         this.y = Arrays.copyOf(newY, newY.length);
+        this.x = new double[newY.length];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = newA + i * h;
+        }
+        this.uniform = true;
+        this.guide = null;
+    }
+
+    /**
+     * Sets up arbitrary grid points and their values, for subclasses, which implement NonUniformInterpolation or
+     * interpolate at other fixed points.
+     * The parameters have to fulfill:
+     * newX[0] < newX[1] < ... < newX[n] and newX.length == newY.length
+     * @param newX grid points
+     * @param newY values to interpolate
+     */
+    protected void initGrid(double[] newX, double[] newY) {
+        if (newX.length != newY.length || newX.length < 2) {
+            throw new IllegalArgumentException("need at least two grid points with one value each");
+        }
+        for (int i = 1; i < newX.length; i++) {
+            if (!(newX[i - 1] < newX[i])) {
+                throw new IllegalArgumentException("grid points must be strictly increasing");
+            }
+        }
+        this.n = newX.length - 1;
+        this.a = newX[0];
+        this.b = newX[n];
+        this.h = (b - a) / n;
+        this.x = Arrays.copyOf(newX, newX.length);
+        this.y = Arrays.copyOf(newY, newY.length);
+        this.uniform = false;
+
+        this.bucketScale = n / (b - a);
+        this.guide = new int[n + 1];
+        for (int j = 0, i = 0; j <= n; j++) {
+            double left = a + j / bucketScale;
+            while (i < n - 1 && x[i + 1] <= left) {
+                i++;
+            }
+            guide[j] = i;
+        }
+    }
+
+    /**
+     * Drops the interval lookup, for subclasses, which add grid points out of order. Afterwards, findInterval throws an
+     * IllegalStateException and cursors evaluate without tracking the interval, until the next init.
+     */
+    protected void clearIntervalLookup() {
+        this.uniform = false;
+        this.guide = null;
+    }
+
+    /**
+     * Returns the index i of the interval [x[i], x[i+1]], which contains z. Points left of a are mapped to the first
+     * and points right of b to the last interval.
+     * For equidistant grids, the index is computed directly in O(1). Otherwise, the guide table restricts the search
+     * to the intervals, which overlap the bucket of z, and these are searched with bisection. For grids without
+     * extreme clustering, this is O(1) as well.
+     */
+    protected final int findInterval(double z) {
+        int last = n - 1;
+        if (uniform) {
+            int i = (int) ((z - a) / h);
+            i = Math.min(Math.max(i, 0), last);
+            // correct rounding of the division near grid points
+            if (i > 0 && z < x[i]) {
+                i--;
+            } else if (i < last && z > x[i + 1]) {
+                i++;
+            }
+            return i;
+        }
+
+        if (guide == null) {
+            throw new IllegalStateException("the grid points are not sorted");
+        }
+        if (!(z > a)) {
+            return 0;
+        }
+        if (z >= b) {
+            return last;
+        }
+        int j = Math.min((int) ((z - a) * bucketScale), n - 1);
+        int lo = guide[j];
+        int hi = guide[j + 1];
+        // invariant: x[lo] <= z and the interval containing z is at most hi
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (x[mid] <= z) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        // z may lie marginally left of its bucket due to rounding
+        return lo > 0 && z < x[lo] ? lo - 1 : lo;
+    }
+
+    /**
+     * Returns a new fitter, which interpolates many data series on the same equidistant grid at once and gives the
+     * same results as this method, or null if there is none. InterpolationMethod2D uses it to fit all rows and then
+     * all columns together instead of one line after the other.
+     * Implementations must not return a fitter to subclasses, which change the interpolating function.
+     */
+    protected CubicSplineSeries seriesFitter() {
+        return null;
     }
 
     /**
      * Evaluates the interpolating function at a point z.
      */
     public abstract double evaluate(double z);
+
+    /**
+     * Evaluates the interpolating function at all points z and stores the values in result, i.e.
+     * result[i] = evaluate(z[i]).
+     * @param z evaluation points.
+     * @param result values of the interpolating function, has to have at least the length of z.
+     */
+    public void evaluate(double[] z, double[] result) {
+        evaluate(z, 0, result, 0, z.length);
+    }
+
+    /**
+     * Evaluates the interpolating function at the points z[zOffset], ..., z[zOffset + length - 1] and stores the values
+     * in result[resultOffset], ..., result[resultOffset + length - 1]. Nothing is allocated.
+     * Subclasses override this to avoid the per-point overhead of evaluate(double).
+     */
+    public void evaluate(double[] z, int zOffset, double[] result, int resultOffset, int length) {
+        checkRange(z, zOffset, result, resultOffset, length);
+        for (int i = 0; i < length; i++) {
+            result[resultOffset + i] = evaluate(z[zOffset + i]);
+        }
+    }
+
+    /**
+     * Evaluates the interpolating function at a point z, which is known to lie in the interval [x[i], x[i+1]] (or left
+     * of a for i == 0, right of b for i == n - 1). Used by the cursor, which tracks i itself.
+     * Methods, which don't depend on the interval, keep this default.
+     */
+    protected double evaluate(double z, int i) {
+        return evaluate(z);
+    }
+
+    /**
+     * Evaluates the interpolating function at the points z[zOffset], ..., z[zOffset + length - 1] like
+     * evaluate(double[], int, double[], int, int), but remembers the interval of the previous point and walks from
+     * there. For monotone z, m points on n intervals cost O(n + m) in total. Other orders give the same results.
+     */
+    public void evaluateSorted(double[] z, int zOffset, double[] result, int resultOffset, int length) {
+        checkRange(z, zOffset, result, resultOffset, length);
+        Cursor cursor = cursor();
+        for (int k = 0; k < length; k++) {
+            result[resultOffset + k] = cursor.evaluate(z[zOffset + k]);
+        }
+    }
+
+    /**
+     * Creates a cursor for evaluating this interpolating function at a sequence of points, which are (mostly)
+     * in monotone order. The cursor is only valid until the next call of init.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Evaluation state, which remembers the interval of the last evaluation point. A cursor must not be shared
+     * between threads, but several cursors may evaluate the same interpolating function concurrently.
+     */
+    public class Cursor {
+        /**
+         * Interval of the last evaluation point.
+         */
+        private int interval;
+
+        /**
+         * Maximal number of intervals to walk, before the interval is searched with findInterval.
+         */
+        private static final int MAX_STEPS = 8;
+
+        protected Cursor() { }
+
+        /**
+         * Evaluates the interpolating function at z.
+         */
+        public double evaluate(double z) {
+            if (n == 0 || !uniform && guide == null) {
+                return InterpolationMethod.this.evaluate(z);
+            }
+            interval = locate(z);
+            return InterpolationMethod.this.evaluate(z, interval);
+        }
+
+        /**
+         * Returns the interval of the last evaluation point.
+         */
+        public int getInterval() {
+            return interval;
+        }
+
+        private int locate(double z) {
+            int last = n - 1;
+            int i = Math.min(interval, last);
+            for (int steps = 0; steps < MAX_STEPS; steps++) {
+                if (i < last && z > x[i + 1]) {
+                    i++;
+                } else if (i > 0 && z < x[i]) {
+                    i--;
+                } else {
+                    return i;
+                }
+            }
+            return findInterval(z);
+        }
+    }
+
+    /**
+     * Checks, that the ranges of a bulk evaluation are within the arrays.
+     */
+    protected static void checkRange(double[] z, int zOffset, double[] result, int resultOffset, int length) {
+        if (length < 0 || zOffset < 0 || resultOffset < 0
+                || zOffset + length > z.length || resultOffset + length > result.length) {
+            throw new IndexOutOfBoundsException("range of length " + length + " is outside of the arrays");
+        }
+    }
 }
 
@@ -1,14 +1,37 @@
 package interpolation;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
 
 public class InterpolationMethod2D {
+    /**
+     * Default threshold of the parallel mode: every task computes at least 2^14 values.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 14;
 
     /**
      * The 1D interpolation method, which we will use to build our 2D interpolation method.
+     * Null in the parallel mode.
      */
     private final InterpolationMethod im;
 
+    /**
+     * Creates the 1D interpolation methods in the parallel mode, one per task. Null in the sequential mode.
+     */
+    private final Supplier<? extends InterpolationMethod> factory;
+
+    /**
+     * Pool, which executes the tasks of the parallel mode.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Minimal number of values, which are computed by one task.
+     */
+    private final int threshold;
+
     /**
      * Grid point x coordinates, we assume a cartesian grid (x, y).
      */
@@ -40,6 +63,35 @@ public class InterpolationMethod2D {
      */
     public InterpolationMethod2D(InterpolationMethod im) {
         this.im = im;
+        this.factory = null;
+        this.pool = null;
+        this.threshold = 0;
+    }
+
+    /**
+     * Initialize a parallel 2D interpolation method, which uses the common pool and the default threshold.
+     * @param factory creates the 1D interpolation methods, has to return a new instance on every call,
+     *                e.g. CubicSpline::new.
+     */
+    public InterpolationMethod2D(Supplier<? extends InterpolationMethod> factory) {
+        this(factory, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Initialize a parallel 2D interpolation method. Both passes of evaluate are split into tasks of consecutive
+     * rows or columns, and every task interpolates with its own instance from the factory.
+     * @param factory creates the 1D interpolation methods, has to return a new instance on every call.
+     * @param pool pool, which executes the tasks.
+     * @param threshold minimal number of values, which are computed by one task, at least 1.
+     */
+    public InterpolationMethod2D(Supplier<? extends InterpolationMethod> factory, ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive, got " + threshold);
+        }
+        this.im = null;
+        this.factory = factory;
+        this.pool = pool;
+        this.threshold = threshold;
     }
 
     /**
@@ -68,36 +120,169 @@ public class InterpolationMethod2D {
      * @return 2D array z, with f(s[i], t[j]) = z[i][j]
      */
     public double[][] evaluate(double[] s, double[] t) {
+        if (m > 2 && n > 2) {
+            CubicSplineSeries splines = (factory != null ? factory.get() : im).seriesFitter();
+            if (splines != null) {
+                return evaluateSeries(splines, s, t);
+            }
+        }
+        if (factory != null) {
+            return evaluateParallel(s, t);
+        }
         int k = s.length;
         int l = t.length;
 
         // Temporary storage for intermediate results
         double[][] tempResult = new double[m][l];
-
-        // interpolate along y-axis for each x
-        for (int i = 0; i < m; i++) {
-            double[] newY = new double[n];
-            System.arraycopy(z[i], 0, newY, 0, n);
-            im.init(y[0], y[n - 1], newY);
-            for (int j = 0; j < l; j++) {
-                tempResult[i][j] = im.evaluate(t[j]);
-            }
-        }
+        interpolateRows(im, t, tempResult, 0, m);
 
         // Final results
         double[][] finalResults = new double[k][l];
+        interpolateColumns(im, s, tempResult, finalResults, 0, l);
 
-        // interpolate along x-axis
-        for (int j = 0; j < l; j++) {
-            double[] temp = new double[m];
+        return finalResults;
+    }
+
+    /**
+     * Same as evaluate, but the rows i of the first pass and the columns j of the second pass are distributed over
+     * the pool. Tasks write disjoint entries of the results, so they need no synchronization.
+     */
+    private double[][] evaluateParallel(double[] s, double[] t) {
+        int k = s.length;
+        int l = t.length;
+
+        double[][] tempResult = new double[m][l];
+        run(m, l, (from, to) -> interpolateRows(factory.get(), t, tempResult, from, to));
+
+        double[][] finalResults = new double[k][l];
+        run(l, k, (from, to) -> interpolateColumns(factory.get(), s, tempResult, finalResults, from, to));
+
+        return finalResults;
+    }
+
+    /**
+     * Interpolates along the y-axis for x[from], ..., x[to - 1]: tempResult[i][j] = f(x[i], t[j]).
+     * The evaluation points are usually sorted, so a sweep is used.
+     */
+    private void interpolateRows(InterpolationMethod method, double[] t, double[][] tempResult, int from, int to) {
+        for (int i = from; i < to; i++) {
+            method.init(y[0], y[n - 1], z[i]);
+            method.evaluateSorted(t, 0, tempResult[i], 0, t.length);
+        }
+    }
+
+    /**
+     * Interpolates along the x-axis for t[from], ..., t[to - 1]: finalResults[i][j] = f(s[i], t[j]).
+     */
+    private void interpolateColumns(InterpolationMethod method, double[] s, double[][] tempResult,
+                                    double[][] finalResults, int from, int to) {
+        int k = s.length;
+        double[] temp = new double[m];
+        double[] column = new double[k];
+        for (int j = from; j < to; j++) {
             for (int i = 0; i < m; i++) {
                 temp[i] = tempResult[i][j];
             }
-            im.init(x[0], x[m - 1], temp);
+            method.init(x[0], x[m - 1], temp);
+            method.evaluateSorted(s, 0, column, 0, k);
             for (int i = 0; i < k; i++) {
-                finalResults[i][j] = im.evaluate(s[i]);
+                finalResults[i][j] = column[i];
+            }
+        }
+    }
+
+    /**
+     * Runs pass on the lines 0, ..., lines - 1 in the pool, every line computes points values. In the sequential mode,
+     * pass runs on all lines at once.
+     */
+    private void run(int lines, int points, Pass pass) {
+        if (pool == null) {
+            pass.run(0, lines);
+            return;
+        }
+        int linesPerTask = Math.max(1, threshold / Math.max(points, 1));
+        Lines task = new Lines(pass, 0, lines, linesPerTask);
+        if (lines <= linesPerTask) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /**
+     * One pass of evaluate on the lines from, ..., to - 1.
+     */
+    private interface Pass {
+        void run(int from, int to);
+    }
+
+    /**
+     * Splits the lines from, ..., to - 1 into tasks of at most linesPerTask lines.
+     */
+    private final class Lines extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Pass pass;
+        private final int from;
+        private final int to;
+        private final int linesPerTask;
+
+        Lines(Pass pass, int from, int to, int linesPerTask) {
+            this.pass = pass;
+            this.from = from;
+            this.to = to;
+            this.linesPerTask = linesPerTask;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > linesPerTask) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Lines(pass, from, mid, linesPerTask), new Lines(pass, mid, to, linesPerTask));
+                return;
             }
+            pass.run(from, to);
         }
+    }
+
+    /**
+     * Same as evaluate, but all rows and then all columns are fitted together with the series fitter of the 1D
+     * interpolation method, so each pass solves one linear system with many right-hand sides. In the parallel mode,
+     * the evaluations of the fitted splines are distributed over the pool.
+     */
+    private double[][] evaluateSeries(CubicSplineSeries splines, double[] s, double[] t) {
+        int k = s.length;
+        int l = t.length;
+
+        // interpolate along y-axis, one series per x: value j of series i is z[i][j]
+        double[] rows = new double[n * m];
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                rows[j * m + i] = z[i][j];
+            }
+        }
+        splines.initInterleaved(y[0], y[n - 1], rows, m);
+
+        // tempResult[i * l + j] belongs to (x[i], t[j]), i.e. value i of the series j along the x-axis
+        double[] tempResult = new double[m * l];
+        run(l, m, (from, to) -> {
+            double[] column = new double[m];
+            for (int j = from; j < to; j++) {
+                splines.evaluate(t[j], column);
+                for (int i = 0; i < m; i++) {
+                    tempResult[i * l + j] = column[i];
+                }
+            }
+        });
+
+        // interpolate along x-axis, one series per t
+        splines.initInterleaved(x[0], x[m - 1], tempResult, l);
+        double[][] finalResults = new double[k][l];
+        run(k, l, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                splines.evaluate(s[i], finalResults[i]);
+            }
+        });
 
         return finalResults;
     }
@@ -1,18 +1,11 @@
 package interpolation;
 
-public class NearestNeighbor extends InterpolationMethod {
-    double[] x;
+import java.util.Arrays;
 
-    /**
-     * Precompute x values
-     */
+public class NearestNeighbor extends InterpolationMethod implements NonUniformInterpolation {
     @Override
-    public void init(double newA, double newB, double[] newY) {
-        super.init(newA, newB, newY);
-        x = new double[y.length];
-        for (int i = 0; i < y.length; i++) {
-            x[i] = a + i * h;
-        }
+    public void init(double[] newX, double[] newY) {
+        initGrid(newX, newY);
     }
 
     /**
@@ -21,17 +14,30 @@ public class NearestNeighbor extends InterpolationMethod {
      */
     @Override
     public double evaluate(double z) {
-        double distance = Double.POSITIVE_INFINITY;
-        double result = Double.POSITIVE_INFINITY;
+        if (n == 0) {
+            return y[0];
+        }
+        return evaluate(z, findInterval(z));
+    }
 
-        for (int i = 0; i < y.length; i++) {
-            double currentDistance = Math.abs(x[i] - z);
-            if (currentDistance <= distance) {
-                distance = currentDistance;
-                result = y[i];
-            }
+    @Override
+    protected double evaluate(double z, int i) {
+        return z - x[i] >= x[i + 1] - z ? y[i + 1] : y[i];
+    }
+
+    @Override
+    public void evaluate(double[] z, int zOffset, double[] result, int resultOffset, int length) {
+        checkRange(z, zOffset, result, resultOffset, length);
+        if (n == 0) {
+            Arrays.fill(result, resultOffset, resultOffset + length, y[0]);
+            return;
+        }
+        double[] x = this.x;
+        double[] y = this.y;
+        for (int k = 0; k < length; k++) {
+            double zk = z[zOffset + k];
+            int i = findInterval(zk);
+            result[resultOffset + k] = zk - x[i] >= x[i + 1] - zk ? y[i + 1] : y[i];
         }
-        return result;
     }
 }
-
@@ -1,15 +1,18 @@
 package interpolation;
 
-public class NewtonPolynomial extends InterpolationMethod {
+import java.util.Arrays;
+
+public class NewtonPolynomial extends InterpolationMethod implements NonUniformInterpolation {
     /**
      * Coefficients of the Newton Polynomial p(x) = a0 + a1*(x-x0) + a2*(x-x0)*(x-x1)+...
      */
     private double[] coefficients;
 
     /**
-     * Grid points x0, x1, ..., xn.
+     * Bottom diagonal of the triangle scheme: diagonal[k] = f[x_{n-k}, ..., x_n], i.e. the divided differences, which
+     * end with the last grid point. addPoint extends the scheme by one row with these values.
      */
-    private double[] x;
+    private double[] diagonal;
 
     /**
      * Add your implementation below.
@@ -24,42 +27,89 @@ public class NewtonPolynomial extends InterpolationMethod {
     public void init(double newA, double newB, double[] newY) {
         super.init(newA, newB, newY);
 
-        // int x value
-        this.x = new double[y.length];
-        for (int i = 0; i < x.length; i++) {
-            x[i] = newA + i * h;
-        }
+        computeCoefficients(y);
+    }
+
+    /**
+     * Compute the coefficients of the Newton polynomial on arbitrary grid points.
+     */
+    @Override
+    public void init(double[] newX, double[] newY) {
+        initGrid(newX, newY);
 
         computeCoefficients(y);
     }
 
     /**
      * Compute the coefficients using the triangle scheme and store them.
+     * Only one column of the scheme is needed at a time. Column k is computed from the bottom up and overwrites column
+     * k - 1, so the coefficient a_i = c_{0,i} remains in entry i once column i is done. This needs O(n) memory.
      * @param y Interpolation values
      */
     private void computeCoefficients(double[] y) {
-        // Hint: this function might be useful.
         int n = y.length;
-        this.coefficients = new double[n];
-        double[][] triangleM = new double[n][n];
+        double[] c = y.clone();
+        double[] d = new double[n];
+        d[0] = c[n - 1];
 
-        // c_i,0 spalte
-        for (int i = 0; i < n; i++) {
-            triangleM[i][0] = y[i];
+        for (int k = 1; k < n; k++) {
+            // c_{i-k,k} = (c_{i-k+1,k-1} - c_{i-k,k-1}) / (x_i - x_{i-k}) is stored in entry i
+            for (int i = n - 1; i >= k; i--) {
+                c[i] = (c[i] - c[i - 1]) / (x[i] - x[i - k]);
+            }
+            d[k] = c[n - 1];
         }
+        this.coefficients = c;
+        this.diagonal = d;
+    }
 
-        // idea: spalte fur spalte iter
-        for (int k = 1; k < n; k++) {
-            for (int i = 0; i < n - k; i++) {
-                // c_i,k formel
-                triangleM[i][k] = (triangleM[i + 1][k - 1] - triangleM[i][k - 1]) / (x[i + k] - x[i]);
+    /**
+     * Adds the grid point newX with the value newY and extends the polynomial in O(n): the new row of the triangle
+     * scheme only needs the stored bottom diagonal, and its last entry is the new coefficient. The coefficients of the
+     * existing points don't change.
+     * The grid points are kept in the order of insertion, so afterwards they are in general not sorted anymore, and the
+     * interval lookup of the grid is dropped. a and b are the smallest and largest grid point.
+     * @param newX new grid point, has to differ from all grid points.
+     * @param newY value at newX.
+     */
+    public void addPoint(double newX, double newY) {
+        if (coefficients == null) {
+            this.x = new double[]{newX};
+            this.y = new double[]{newY};
+            this.coefficients = new double[]{newY};
+            this.diagonal = new double[]{newY};
+            this.n = 0;
+            this.a = this.b = newX;
+            this.h = 0;
+            clearIntervalLookup();
+            return;
+        }
+        int m = n + 1;
+        for (int i = 0; i < m; i++) {
+            if (x[i] == newX) {
+                throw new IllegalArgumentException("grid point " + newX + " already exists");
             }
         }
 
-        // copy erste reihe
-        for (int i = 0; i < n; i++) {
-            this.coefficients[i] = triangleM[0][i];
+        // new row: d'_0 = y, d'_k = (d'_{k-1} - d_{k-1}) / (newX - x_{m-k})
+        double[] d = new double[m + 1];
+        d[0] = newY;
+        for (int k = 1; k <= m; k++) {
+            d[k] = (d[k - 1] - diagonal[k - 1]) / (newX - x[m - k]);
         }
+
+        this.x = Arrays.copyOf(x, m + 1);
+        this.y = Arrays.copyOf(y, m + 1);
+        this.coefficients = Arrays.copyOf(coefficients, m + 1);
+        x[m] = newX;
+        y[m] = newY;
+        coefficients[m] = d[m];
+        this.diagonal = d;
+        this.n = m;
+        this.a = Math.min(a, newX);
+        this.b = Math.max(b, newX);
+        this.h = (b - a) / n;
+        clearIntervalLookup();
     }
 
     /**
@@ -72,13 +122,48 @@ public class NewtonPolynomial extends InterpolationMethod {
         double acc2 = 1;
         int i = 0;
 
-        while (i < y.length) {
+        while (i < coefficients.length) {
             acc = acc + coefficients[i] * acc2;
             acc2 = acc2 * (z - x[i]);
             i++;
         }
         return acc;
     }
+
+    /**
+     * Evaluates the Newton polynomial at all points with the Horner scheme
+     * p(z) = (...(a_n (z - x_{n-1}) + a_{n-1}) (z - x_{n-2}) + ...) (z - x_0) + a_0.
+     */
+    @Override
+    public void evaluate(double[] z, int zOffset, double[] result, int resultOffset, int length) {
+        checkRange(z, zOffset, result, resultOffset, length);
+        double[] c = coefficients;
+        double[] x = this.x;
+        int last = c.length - 1;
+        for (int k = 0; k < length; k++) {
+            double zk = z[zOffset + k];
+            double p = c[last];
+            for (int i = last - 1; i >= 0; i--) {
+                p = p * (zk - x[i]) + c[i];
+            }
+            result[resultOffset + k] = p;
+        }
+    }
+
+    /**
+     * The polynomial doesn't depend on the interval of z, and after addPoint the grid points may be unsorted, so the
+     * cursor evaluates directly without searching the interval.
+     */
+    @Override
+    public Cursor cursor() {
+        return new Cursor() {
+            @Override
+            public double evaluate(double z) {
+                return NewtonPolynomial.this.evaluate(z);
+            }
+        };
+    }
+
     // test-------------------------------------------------
     public static void main(String[] args) {
         NewtonPolynomial newtonPoly = new NewtonPolynomial();
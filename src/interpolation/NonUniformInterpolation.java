@@ -0,0 +1,16 @@
+package interpolation;
+
+/**
+ * Interpolation methods, which can also be initialized with arbitrary grid points. Methods, whose setup depends on
+ * equidistant or other fixed points, like CubicSpline or ChebyshevInterpolation, don't implement it.
+ */
+public interface NonUniformInterpolation {
+    /**
+     * Initialize the interpolation method with arbitrary grid points.
+     * The parameters have to fulfill:
+     * newX[0] < newX[1] < ... < newX[n] and newX.length == newY.length
+     * @param newX grid points
+     * @param newY values to interpolate
+     */
+    void init(double[] newX, double[] newY);
+}
@@ -0,0 +1,78 @@
+package interpolation;
+
+import linalg.CyclicTridiagonalMatrix;
+
+/**
+ * Cubic spline of a periodic function with period b - a, e.g. for one coordinate of a closed curve. The values at a
+ * and b have to be equal. Instead of y'0 = y'n = 0 like in CubicSpline, the derivatives satisfy the spline condition
+ * at every grid point, where the neighbours of x_0 are x_{n-1} and x_1. This gives a cyclic tridiagonal system
+ * (1, 4, 1), which is solved in O(n). Outside [a, b], the spline is continued periodically.
+ */
+public class PeriodicCubicSpline extends InterpolationMethod {
+    /**
+     * Derivatives at the grid points, yPrime[n] = yPrime[0].
+     */
+    private double[] yPrime;
+
+    /**
+     * @param newY values to interpolate with newY[0] == newY[n], at least four values.
+     */
+    @Override
+    public void init(double newA, double newB, double[] newY) {
+        if (newY.length < 4 || newY[0] != newY[newY.length - 1]) {
+            throw new IllegalArgumentException("need at least four values with y[0] == y[n] for a periodic spline");
+        }
+        super.init(newA, newB, newY);
+
+        computeDerivatives();
+    }
+
+    /**
+     * Solves y'_{i-1} + 4 y'_i + y'_{i+1} = 3/h (y_{i+1} - y_{i-1}) for i = 0, ..., n - 1 with indices modulo n.
+     */
+    private void computeDerivatives() {
+        CyclicTridiagonalMatrix leftSideMatrix = new CyclicTridiagonalMatrix(n);
+        leftSideMatrix.setDiagonal(4.0);
+        leftSideMatrix.setUpper(1.0);
+        leftSideMatrix.setLower(1.0);
+
+        double factor = 3 / h;
+        double[] rightSideVector = new double[n];
+        for (int i = 0; i < n; i++) {
+            rightSideVector[i] = factor * (y[i + 1] - y[(i + n - 1) % n]);
+        }
+
+        yPrime = new double[n + 1];
+        double[] solution = leftSideMatrix.solveLinearSystem(rightSideVector);
+        System.arraycopy(solution, 0, yPrime, 0, n);
+        yPrime[n] = yPrime[0];
+    }
+
+    @Override
+    public double evaluate(double z) {
+        return evaluate(z, findInterval(wrap(z)));
+    }
+
+    @Override
+    protected double evaluate(double z, int i) {
+        z = wrap(z);
+        // the cursor doesn't know about the period
+        if (z < x[i] || z > x[i + 1]) {
+            i = findInterval(z);
+        }
+        double t = (z - x[i]) / h;
+        return CubicSpline.hermite(t, h, y[i], y[i + 1], yPrime[i], yPrime[i + 1]);
+    }
+
+    /**
+     * Maps z into [a, b] with the period b - a.
+     */
+    private double wrap(double z) {
+        if (z >= a && z <= b) {
+            return z;
+        }
+        double period = b - a;
+        double shifted = a + (z - a) - Math.floor((z - a) / period) * period;
+        return Math.min(Math.max(shifted, a), b);
+    }
+}
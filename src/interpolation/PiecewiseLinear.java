@@ -1,25 +1,33 @@
 package interpolation;
 
-public class PiecewiseLinear extends InterpolationMethod {
-    double[] x;
+public class PiecewiseLinear extends InterpolationMethod implements NonUniformInterpolation {
     double[] m;
     double[] t;
 
     /**
-     * Precompute x values
+     * Precompute slopes and intercepts
      */
     @Override
     public void init(double newA, double newB, double[] newY) {
         super.init(newA, newB, newY);
-        x = new double[y.length];
+        computePieces();
+    }
+
+    /**
+     * Precompute slopes and intercepts on a non-equidistant grid
+     */
+    @Override
+    public void init(double[] newX, double[] newY) {
+        initGrid(newX, newY);
+        computePieces();
+    }
+
+    private void computePieces() {
         m = new double[y.length - 1];
         t = new double[y.length - 1];
 
-        for (int i = 0; i < y.length; i++) {
-            x[i] = a + i * h;
-        }
         for (int i = 0; i < m.length; i++) {
-            m[i] = (y[i + 1] - y[i]) / h;
+            m[i] = (y[i + 1] - y[i]) / (x[i + 1] - x[i]);
             t[i] = y[i] - m[i] * x[i];
         }
     }
@@ -30,25 +38,37 @@ public class PiecewiseLinear extends InterpolationMethod {
      */
     @Override
     public double evaluate(double z) {
+        return evaluate(z, findInterval(z));
+    }
+
+    @Override
+    protected double evaluate(double z, int pieceIndex) {
         if (z < a) {
             return y[0];
         } else if (z > b) {
             return y[y.length - 1];
         }
 
-        int pieceIndex = 0;
-
-        for (int i = 0; i < y.length - 1; i++) {
-            double lowerBoundary = x[i];
-            double upperBoundary = x[i + 1];
+        return m[pieceIndex] * z + t[pieceIndex];
+    }
 
-            if (z >= lowerBoundary && z <= upperBoundary) {
-                pieceIndex = i;
-                break;
+    @Override
+    public void evaluate(double[] z, int zOffset, double[] result, int resultOffset, int length) {
+        checkRange(z, zOffset, result, resultOffset, length);
+        double first = y[0];
+        double last = y[y.length - 1];
+        for (int k = 0; k < length; k++) {
+            double zk = z[zOffset + k];
+            double value;
+            if (zk < a) {
+                value = first;
+            } else if (zk > b) {
+                value = last;
+            } else {
+                int pieceIndex = findInterval(zk);
+                value = m[pieceIndex] * zk + t[pieceIndex];
             }
+            result[resultOffset + k] = value;
         }
-
-        return m[pieceIndex] * z + t[pieceIndex];
     }
 }
-
@@ -0,0 +1,171 @@
+package interpolation;
+
+import linalg.SparseMatrix;
+import util.LruCache;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Separable 2D resampling with cached weight matrices.
+ * All interpolation methods are linear in the values: on fixed grid points, the interpolated values at fixed
+ * evaluation points are W y for a matrix W, whose column i holds the values of the interpolant of the unit vector e_i.
+ * The result of InterpolationMethod2D.evaluate is therefore W_x Z W_y^T. The Resampler computes the matrices of both
+ * axes once per source grid and evaluation points, stores them as sparse matrices and keeps the least recently used
+ * ones in a cache. Repeated resampling between the same sizes only costs the two sparse matrix products.
+ * The Resampler is thread-safe, the cached matrices are immutable.
+ */
+public class Resampler {
+    /**
+     * Default number of cached weight matrices.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Default tolerance, below which weights are dropped.
+     */
+    public static final double DEFAULT_DROP_TOLERANCE = 1e-12;
+
+    /**
+     * Creates the interpolation methods, which compute the weights.
+     */
+    private final Supplier<? extends InterpolationMethod> factory;
+
+    /**
+     * Weights with an absolute value of at most dropTolerance are not stored.
+     */
+    private final double dropTolerance;
+
+    /**
+     * Weight matrices, the least recently used one is evicted when there are more than capacity.
+     */
+    private final LruCache<Key, SparseMatrix> cache;
+
+    /**
+     * Uses the default capacity and drop tolerance.
+     * @param factory creates the interpolation method, has to return a new instance on every call, e.g.
+     *                CubicSpline::new.
+     */
+    public Resampler(Supplier<? extends InterpolationMethod> factory) {
+        this(factory, DEFAULT_CAPACITY, DEFAULT_DROP_TOLERANCE);
+    }
+
+    /**
+     * @param factory creates the interpolation method, has to return a new instance on every call.
+     * @param capacity maximal number of cached weight matrices, at least 1.
+     * @param dropTolerance weights with an absolute value of at most dropTolerance are dropped. Splines and
+     *                      polynomials have nonzero weights for all grid points, which decay fast for splines.
+     */
+    public Resampler(Supplier<? extends InterpolationMethod> factory, int capacity, double dropTolerance) {
+        this.factory = factory;
+        this.dropTolerance = dropTolerance;
+        this.cache = new LruCache<>(capacity);
+    }
+
+    /**
+     * Returns the weight matrix for interpolation on count equidistant grid points in [a, b] and evaluation at the
+     * points targets: entry (i, j) is the weight of grid point j for targets[i].
+     */
+    public SparseMatrix weights(double a, double b, int count, double[] targets) {
+        return cache.get(new Key(a, b, count, targets), key -> computeWeights(a, b, count, key.targets));
+    }
+
+    /**
+     * Removes all cached weight matrices.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * Interpolates every unit vector, its values at the targets form one column of the weight matrix. Only the weights
+     * above the drop tolerance are kept, so the memory is proportional to the number of stored weights.
+     */
+    private SparseMatrix computeWeights(double a, double b, int count, double[] targets) {
+        InterpolationMethod method = factory.get();
+        int k = targets.length;
+        double[] unit = new double[count];
+        double[] column = new double[k];
+        int[] colStart = new int[count + 1];
+        int[] rowIndex = new int[Math.max(k, 16)];
+        double[] values = new double[rowIndex.length];
+        int size = 0;
+        for (int j = 0; j < count; j++) {
+            unit[j] = 1;
+            method.init(a, b, unit);
+            method.evaluateSorted(targets, 0, column, 0, k);
+            unit[j] = 0;
+
+            for (int i = 0; i < k; i++) {
+                if (Math.abs(column[i]) > dropTolerance) {
+                    if (size == rowIndex.length) {
+                        rowIndex = Arrays.copyOf(rowIndex, 2 * size);
+                        values = Arrays.copyOf(values, 2 * size);
+                    }
+                    rowIndex[size] = i;
+                    values[size] = column[i];
+                    size++;
+                }
+            }
+            colStart[j + 1] = size;
+        }
+        return SparseMatrix.fromColumns(k, count, colStart, rowIndex, values);
+    }
+
+    /**
+     * Same as InterpolationMethod2D.evaluate after init(x, y, z): f(s[i], t[j]) = result[i][j].
+     * Like there, only the first and last entry of x and y are used, the grid points are equidistant.
+     * @param x grid points along the x-axis
+     * @param y grid points along the y-axis
+     * @param z values, f(x[i], y[j]) = z[i][j]
+     * @param s evaluation points along the x-axis
+     * @param t evaluation points along the y-axis
+     */
+    public double[][] evaluate(double[] x, double[] y, double[][] z, double[] s, double[] t) {
+        SparseMatrix wx = weights(x[0], x[x.length - 1], x.length, s);
+        SparseMatrix wy = weights(y[0], y[y.length - 1], y.length, t);
+
+        // interpolate along y-axis for each x: tempResult[i] = W_y z[i]
+        double[][] tempResult = new double[x.length][t.length];
+        for (int i = 0; i < x.length; i++) {
+            wy.multiply(z[i], tempResult[i]);
+        }
+
+        // interpolate along x-axis
+        return wx.multiply(tempResult);
+    }
+
+    /**
+     * Cache key: the grid and the evaluation points.
+     */
+    private static final class Key {
+        private final double a;
+        private final double b;
+        private final int count;
+        private final double[] targets;
+        private final int hash;
+
+        Key(double a, double b, int count, double[] targets) {
+            this.a = a;
+            this.b = b;
+            this.count = count;
+            this.targets = targets.clone();
+            this.hash = 31 * (31 * (31 * Double.hashCode(a) + Double.hashCode(b)) + count) + Arrays.hashCode(targets);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Double.compare(a, other.a) == 0 && Double.compare(b, other.b) == 0 && count == other.count
+                    && Arrays.equals(targets, other.targets);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
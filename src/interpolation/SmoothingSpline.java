@@ -0,0 +1,107 @@
+package interpolation;
+
+import linalg.BandMatrix;
+
+/**
+ * Cubic smoothing spline on equidistant grid points, for noisy values, which shouldn't be interpolated exactly.
+ * Among all functions f, it minimizes sum_i (y_i - f(x_i))^2 + lambda * integral of f''(z)^2 over [a, b].
+ * The minimizer is a natural cubic spline (f'' = 0 at a and b) with the values g_i at the grid points. Following
+ * Reinsch, the second derivatives gamma_1, ..., gamma_{n-1} at the inner grid points solve
+ * (R + lambda Q^T Q) gamma = Q^T y, where Q^T y are the second differences (y_{i-1} - 2 y_i + y_{i+1}) / h and R is
+ * tridiagonal (h/6, 2h/3, h/6). Q^T Q makes the system pentadiagonal, symmetric and positive definite, so it is solved
+ * with a BandMatrix in O(n). Afterwards g = y - lambda Q gamma.
+ * lambda = 0 gives the interpolating natural cubic spline, lambda -> infinity the least squares line.
+ * Outside [a, b], the spline is constant, like CubicSpline.
+ */
+public class SmoothingSpline extends InterpolationMethod {
+    /**
+     * Weight of the roughness penalty.
+     */
+    private final double lambda;
+
+    /**
+     * Values of the spline at the grid points.
+     */
+    private double[] g;
+
+    /**
+     * Second derivatives of the spline at the grid points, gamma[0] = gamma[n] = 0.
+     */
+    private double[] gamma;
+
+    /**
+     * @param lambda weight of the roughness penalty, at least 0.
+     */
+    public SmoothingSpline(double lambda) {
+        if (!(lambda >= 0)) {
+            throw new IllegalArgumentException("lambda must not be negative, got " + lambda);
+        }
+        this.lambda = lambda;
+    }
+
+    @Override
+    public void init(double newA, double newB, double[] newY) {
+        super.init(newA, newB, newY);
+
+        computeSpline();
+    }
+
+    /**
+     * Solves the pentadiagonal system for the second derivatives and computes the values at the grid points.
+     */
+    private void computeSpline() {
+        gamma = new double[n + 1];
+        g = y.clone();
+        int matrixSize = n - 1;
+        if (matrixSize < 1) {
+            // two points: a straight line
+            return;
+        }
+
+        // R + lambda Q^T Q, Q has the columns (1, -2, 1) / h
+        double h2 = h * h;
+        BandMatrix leftSideMatrix = new BandMatrix(matrixSize, 2, 2);
+        leftSideMatrix.fillDiagonal(0, 2 * h / 3 + 6 * lambda / h2);
+        leftSideMatrix.fillDiagonal(1, h / 6 - 4 * lambda / h2);
+        leftSideMatrix.fillDiagonal(-1, h / 6 - 4 * lambda / h2);
+        leftSideMatrix.fillDiagonal(2, lambda / h2);
+        leftSideMatrix.fillDiagonal(-2, lambda / h2);
+
+        double[] rightSideVector = new double[matrixSize];
+        for (int i = 1; i < n; i++) {
+            rightSideVector[i - 1] = (y[i - 1] - 2 * y[i] + y[i + 1]) / h;
+        }
+        leftSideMatrix.factorize().solve(rightSideVector);
+        System.arraycopy(rightSideVector, 0, gamma, 1, matrixSize);
+
+        // g = y - lambda Q gamma
+        for (int i = 0; i <= n; i++) {
+            double left = i > 0 ? gamma[i - 1] : 0;
+            double right = i < n ? gamma[i + 1] : 0;
+            g[i] -= lambda * (left - 2 * gamma[i] + right) / h;
+        }
+    }
+
+    /**
+     * Returns the values of the spline at the grid points.
+     */
+    public double[] getSmoothedValues() {
+        return g.clone();
+    }
+
+    @Override
+    public double evaluate(double z) {
+        return evaluate(z, findInterval(z));
+    }
+
+    @Override
+    protected double evaluate(double z, int i) {
+        if (z < a) return g[0];
+        if (z > b) return g[n];
+
+        // f(z) = (u g_{i+1} + v g_i) / h - u v / 6 ((1 + u / h) gamma_{i+1} + (1 + v / h) gamma_i)
+        double u = z - x[i];
+        double v = x[i + 1] - z;
+        return (u * g[i + 1] + v * g[i]) / h - u * v / 6 * ((1 + u / h) * gamma[i + 1] + (1 + v / h) * gamma[i]);
+    }
+}
@@ -0,0 +1,66 @@
+package linalg;
+
+/**
+ * LU decomposition of a band matrix without pivoting, see BandMatrix.factorize.
+ * L (with ones on the diagonal) and U are stored in one band like BandMatrix: the kl diagonals below the main diagonal
+ * hold L, the main diagonal and the ku diagonals above hold U. A solve needs O(n (kl + ku)) operations and doesn't
+ * allocate. The factorization is immutable, so it can be shared between threads.
+ */
+public final class BandLU {
+    private final int n;
+    private final int kl;
+    private final int ku;
+    private final double[] lu;
+
+    BandLU(int n, int kl, int ku, double[] lu) {
+        this.n = n;
+        this.kl = kl;
+        this.ku = ku;
+        this.lu = lu;
+    }
+
+    /**
+     * Returns the dimension.
+     */
+    public int getSize() {
+        return n;
+    }
+
+    /**
+     * Solves Ax = b in place.
+     * @param b right-hand side of length n, overwritten with the solution.
+     */
+    public void solve(double[] b) {
+        solve(b, b);
+    }
+
+    /**
+     * Solves Ax = b and stores the solution in x. x and b may be the same array.
+     */
+    public void solve(double[] b, double[] x) {
+        if (b.length != n || x.length != n) {
+            throw new IllegalArgumentException("expected vectors of length " + n);
+        }
+        int width = kl + ku + 1;
+
+        // forward substitution with L
+        for (int i = 0; i < n; i++) {
+            int row = i * width - i + kl;
+            double sum = b[i];
+            for (int j = Math.max(0, i - kl); j < i; j++) {
+                sum -= lu[row + j] * x[j];
+            }
+            x[i] = sum;
+        }
+
+        // back substitution with U
+        for (int i = n - 1; i >= 0; i--) {
+            int row = i * width - i + kl;
+            double sum = x[i];
+            for (int j = i + 1; j <= Math.min(n - 1, i + ku); j++) {
+                sum -= lu[row + j] * x[j];
+            }
+            x[i] = sum / lu[row + i];
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package linalg;
+
+import java.util.Arrays;
+
+/**
+ * Band matrix with kl diagonals below and ku diagonals above the main diagonal in compact storage: only the
+ * n * (kl + ku + 1) entries within the band are stored, row by row. Entry (i, j) with -kl <= j - i <= ku is
+ * band[i * width + j - i + kl], where width = kl + ku + 1.
+ * The LU decomposition without pivoting keeps the band structure and needs O(n kl ku) operations. It is stable for
+ * diagonally dominant and symmetric positive definite matrices, like the matrices of splines.
+ */
+public class BandMatrix {
+    /**
+     * Dimension.
+     */
+    private final int n;
+
+    /**
+     * Number of diagonals below and above the main diagonal.
+     */
+    private final int kl;
+    private final int ku;
+
+    /**
+     * Entries within the band, row by row, has length n * (kl + ku + 1).
+     */
+    private final double[] band;
+
+    /**
+     * Creates an empty band matrix.
+     * @param n dimension
+     * @param kl number of diagonals below the main diagonal
+     * @param ku number of diagonals above the main diagonal
+     */
+    public BandMatrix(int n, int kl, int ku) {
+        if (n < 1 || kl < 0 || ku < 0) {
+            throw new IllegalArgumentException("invalid band matrix " + n + " x " + n + " with " + kl + ", " + ku
+                    + " diagonals");
+        }
+        this.n = n;
+        this.kl = kl;
+        this.ku = ku;
+        this.band = new double[n * (kl + ku + 1)];
+    }
+
+    /**
+     * Returns the dimension.
+     */
+    public int getSize() {
+        return n;
+    }
+
+    /**
+     * Returns the number of diagonals below the main diagonal.
+     */
+    public int getLowerBandwidth() {
+        return kl;
+    }
+
+    /**
+     * Returns the number of diagonals above the main diagonal.
+     */
+    public int getUpperBandwidth() {
+        return ku;
+    }
+
+    /**
+     * Returns entry (i, j), which is 0 outside the band.
+     */
+    public double get(int i, int j) {
+        checkIndex(i, j);
+        int k = j - i;
+        return k < -kl || k > ku ? 0 : band[i * (kl + ku + 1) + k + kl];
+    }
+
+    /**
+     * Sets entry (i, j), which has to be within the band.
+     */
+    public void set(int i, int j, double value) {
+        checkIndex(i, j);
+        int k = j - i;
+        if (k < -kl || k > ku) {
+            throw new IllegalArgumentException("entry (" + i + ", " + j + ") is outside of the band");
+        }
+        band[i * (kl + ku + 1) + k + kl] = value;
+    }
+
+    /**
+     * Sets all entries on the diagonal k to d, k = 0 is the main diagonal, k > 0 above and k < 0 below.
+     */
+    public void fillDiagonal(int k, double d) {
+        if (k < -kl || k > ku) {
+            throw new IllegalArgumentException("diagonal " + k + " is outside of the band");
+        }
+        for (int i = Math.max(0, -k); i < Math.min(n, n - k); i++) {
+            band[i * (kl + ku + 1) + k + kl] = d;
+        }
+    }
+
+    private void checkIndex(int i, int j) {
+        if (i < 0 || i >= n || j < 0 || j >= n) {
+            throw new IndexOutOfBoundsException("entry (" + i + ", " + j + ") is outside of the matrix");
+        }
+    }
+
+    /**
+     * Computes the matrix-vector product Av.
+     */
+    public double[] multiply(double[] v) {
+        if (v.length != n) {
+            throw new IllegalArgumentException("expected a vector of length " + n);
+        }
+        int width = kl + ku + 1;
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            double sum = 0;
+            for (int j = Math.max(0, i - kl); j <= Math.min(n - 1, i + ku); j++) {
+                sum += band[i * width + j - i + kl] * v[j];
+            }
+            result[i] = sum;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the LU decomposition without pivoting. L has kl and U has ku diagonals besides the main diagonal, both
+     * are stored in one band of the same shape. Later changes of this matrix don't affect it.
+     * @throws ArithmeticException if a pivot is 0.
+     */
+    public BandLU factorize() {
+        double[] lu = Arrays.copyOf(band, band.length);
+        int width = kl + ku + 1;
+        for (int p = 0; p < n; p++) {
+            double pivot = lu[p * width + kl];
+            if (pivot == 0) {
+                throw new ArithmeticException("zero pivot in row " + p);
+            }
+            int lastColumn = Math.min(n - 1, p + ku);
+            for (int i = p + 1; i <= Math.min(n - 1, p + kl); i++) {
+                // l_ip = a_ip / u_pp, then row i -= l_ip * row p
+                int rowI = i * width - i + kl;
+                int rowP = p * width - p + kl;
+                double factor = lu[rowI + p] / pivot;
+                lu[rowI + p] = factor;
+                for (int j = p + 1; j <= lastColumn; j++) {
+                    lu[rowI + j] -= factor * lu[rowP + j];
+                }
+            }
+        }
+        return new BandLU(n, kl, ku, lu);
+    }
+
+    /**
+     * Solve the linear system Ax = b.
+     * @return the solution, b is not modified.
+     * @throws ArithmeticException if a pivot is 0.
+     */
+    public double[] solveLinearSystem(double[] b) {
+        double[] x = Arrays.copyOf(b, b.length);
+        factorize().solve(x);
+        return x;
+    }
+}
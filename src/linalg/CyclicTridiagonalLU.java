@@ -0,0 +1,79 @@
+package linalg;
+
+/**
+ * Factorization of a cyclic tridiagonal matrix A = T + u v^T, see CyclicTridiagonalMatrix.factorize.
+ * It keeps the LU decomposition of the tridiagonal matrix T and the vector z = T^{-1} u, so a solve with the
+ * Sherman-Morrison formula x = y - (v^T y) / (1 + v^T z) z, Ty = b, is one forward and one back substitution, a dot
+ * product with the two nonzero entries of v and one vector update. The solves don't allocate, and the factorization is
+ * immutable, so it can be shared between threads.
+ */
+public final class CyclicTridiagonalLU {
+    /**
+     * Dimension.
+     */
+    private final int n;
+
+    /**
+     * LU decomposition of the tridiagonal part T.
+     */
+    private final TridiagonalLU t;
+
+    /**
+     * z = T^{-1} u, has length n.
+     */
+    private final double[] z;
+
+    /**
+     * Last entry of v, the first one is 1.
+     */
+    private final double vLast;
+
+    /**
+     * 1 / (1 + v^T z).
+     */
+    private final double inverseDenominator;
+
+    CyclicTridiagonalLU(TridiagonalLU t, double[] z, double vLast) {
+        this.n = z.length;
+        this.t = t;
+        this.z = z;
+        this.vLast = vLast;
+        double denominator = 1 + z[0] + vLast * z[n - 1];
+        if (denominator == 0) {
+            throw new ArithmeticException("cyclic tridiagonal matrix is singular");
+        }
+        this.inverseDenominator = 1 / denominator;
+    }
+
+    /**
+     * Returns the dimension.
+     */
+    public int getSize() {
+        return n;
+    }
+
+    /**
+     * Solves Ax = b in place.
+     * @param b right-hand side of length n, overwritten with the solution.
+     */
+    public void solve(double[] b) {
+        solve(b, b);
+    }
+
+    /**
+     * Solves Ax = b and stores the solution in x. b is not modified, unless x and b are the same array.
+     * @param b right-hand side of length n.
+     * @param x solution of length n.
+     */
+    public void solve(double[] b, double[] x) {
+        if (b.length != n || x.length != n) {
+            throw new IllegalArgumentException("expected vectors of length " + n);
+        }
+        t.solve(b, x);
+
+        double factor = (x[0] + vLast * x[n - 1]) * inverseDenominator;
+        for (int i = 0; i < n; i++) {
+            x[i] -= factor * z[i];
+        }
+    }
+}
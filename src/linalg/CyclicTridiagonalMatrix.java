@@ -0,0 +1,154 @@
+package linalg;
+
+import java.util.Arrays;
+
+/**
+ * Cyclic tridiagonal matrix, i.e. a tridiagonal matrix with the additional corner entries (0, n-1) and (n-1, 0), like
+ * the matrices of periodic splines. Row i has the entries lower[i-1], diagonal[i] and upper[i], where the indices are
+ * taken modulo n: lower[n-1] is entry (0, n-1) and upper[n-1] is entry (n-1, 0).
+ * The systems are solved with the Sherman-Morrison formula: A = T + u v^T for a tridiagonal matrix T, so
+ * x = y - (v^T y) / (1 + v^T z) z with Ty = b and Tz = u. T is factorized and z is computed once, see factorize, and
+ * reused by all solves until the matrix is changed.
+ */
+public class CyclicTridiagonalMatrix {
+    /**
+     * Dimension, at least 3.
+     */
+    private final int n;
+
+    /**
+     * lower[i] is entry (i + 1 mod n, i), has length n.
+     */
+    private final double[] lower;
+
+    /**
+     * Values on the diagonal, has length n.
+     */
+    private final double[] diagonal;
+
+    /**
+     * upper[i] is entry (i, i + 1 mod n), has length n.
+     */
+    private final double[] upper;
+
+    /**
+     * Factorization used by solve, null if it has to be recomputed after a change of the matrix.
+     */
+    private CyclicTridiagonalLU lu;
+
+    /**
+     * Creates an empty cyclic tridiagonal matrix.
+     */
+    public CyclicTridiagonalMatrix(int n) {
+        if (n < 3) {
+            throw new IllegalArgumentException("cyclic tridiagonal matrices need at least 3 rows, got " + n);
+        }
+        this.n = n;
+        lower = new double[n];
+        diagonal = new double[n];
+        upper = new double[n];
+    }
+
+    /**
+     * Sets all entries on the lower diagonal and the corner (0, n-1) to d.
+     */
+    public void setLower(double d) {
+        Arrays.fill(lower, d);
+        lu = null;
+    }
+
+    /**
+     * Sets all entries on the diagonal to d.
+     */
+    public void setDiagonal(double d) {
+        Arrays.fill(diagonal, d);
+        lu = null;
+    }
+
+    /**
+     * Sets all entries on the upper diagonal and the corner (n-1, 0) to d.
+     */
+    public void setUpper(double d) {
+        Arrays.fill(upper, d);
+        lu = null;
+    }
+
+    /**
+     * Sets entry (i + 1 mod n, i) to d.
+     */
+    public void setLower(int i, double d) {
+        lower[i] = d;
+        lu = null;
+    }
+
+    /**
+     * Sets entry (i, i) to d.
+     */
+    public void setDiagonal(int i, double d) {
+        diagonal[i] = d;
+        lu = null;
+    }
+
+    /**
+     * Sets entry (i, i + 1 mod n) to d.
+     */
+    public void setUpper(int i, double d) {
+        upper[i] = d;
+        lu = null;
+    }
+
+    /**
+     * Returns the dimension.
+     */
+    public int getSize() {
+        return n;
+    }
+
+    /**
+     * Solve the linear system Ax = b.
+     * @return the solution, b is not modified.
+     * @throws ArithmeticException if a pivot of the tridiagonal part is 0.
+     */
+    public double[] solveLinearSystem(double[] b) {
+        double[] x = new double[n];
+        solve(b, x);
+        return x;
+    }
+
+    /**
+     * Solve the linear system Ax = b and store the solution in x. x and b may be the same array.
+     * The factorization is computed on the first call and reused until the matrix is changed.
+     * @throws ArithmeticException if a pivot of the tridiagonal part is 0.
+     */
+    public void solve(double[] b, double[] x) {
+        if (lu == null) {
+            lu = factorize();
+        }
+        lu.solve(b, x);
+    }
+
+    /**
+     * Computes the LU decomposition of the tridiagonal part and the Sherman-Morrison vector z. The factorization can
+     * solve any number of right-hand sides in O(n) without repeating the elimination. Later changes of this matrix
+     * don't affect it.
+     * @throws ArithmeticException if a pivot of the tridiagonal part is 0 or the matrix is singular.
+     */
+    public CyclicTridiagonalLU factorize() {
+        // corners: alpha = (n-1, 0), beta = (0, n-1), u = (gamma, 0, ..., 0, alpha), v = (1, 0, ..., 0, beta / gamma)
+        double alpha = upper[n - 1];
+        double beta = lower[n - 1];
+        // any gamma != 0 works, -d_0 avoids cancellation in d_0 - gamma
+        double gamma = diagonal[0] != 0 ? -diagonal[0] : -1;
+
+        double[] d = Arrays.copyOf(diagonal, n);
+        d[0] -= gamma;
+        d[n - 1] -= alpha * beta / gamma;
+        TridiagonalLU t = new TridiagonalLU(lower, d, Arrays.copyOf(upper, n - 1));
+
+        double[] z = new double[n];
+        z[0] = gamma;
+        z[n - 1] = alpha;
+        t.solve(z);
+        return new CyclicTridiagonalLU(t, z, beta / gamma);
+    }
+}
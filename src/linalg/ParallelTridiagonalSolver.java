@@ -0,0 +1,217 @@
+package linalg;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Solver for large tridiagonal systems Ax = b, which distributes the work over the threads of a ForkJoinPool.
+ * The rows are partitioned into p blocks, which are separated by single rows r_0 < ... < r_{p-2}. For given values at
+ * the separators, the blocks are independent tridiagonal systems, so every block j is solved in parallel with the
+ * Thomas algorithm for three right-hand sides, which gives
+ * x_i = y_i - v_i x_{r_{j-1}} - w_i x_{r_j}
+ * for all rows i of the block. Inserted into the separator rows, this is a tridiagonal system of size p - 1 for the
+ * separator values, which is solved sequentially. Finally, every block computes its x_i in parallel.
+ * This needs about twice the operations of the Thomas algorithm and two additional arrays of length n. Systems with
+ * less than two blocks of threshold rows are solved sequentially.
+ * Without pivoting, the elimination is only stable for diagonally dominant matrices, i.e.
+ * |d_i| >= |l_{i-1}| + |u_i| in every row. Other matrices are rejected with an IllegalArgumentException.
+ */
+public class ParallelTridiagonalSolver {
+    /**
+     * Default threshold: every block has at least 2^16 rows.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Minimal number of rows of a block.
+     */
+    private final int threshold;
+
+    /**
+     * Uses the common pool and the default threshold.
+     */
+    public ParallelTridiagonalSolver() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param pool pool, which executes the blocks.
+     * @param threshold minimal number of rows of a block, at least 2.
+     */
+    public ParallelTridiagonalSolver(ForkJoinPool pool, int threshold) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("threshold must be at least 2, got " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Solve the linear system Ax = b.
+     * @return the solution, b is not modified.
+     * @throws IllegalArgumentException if A is not diagonally dominant.
+     */
+    public double[] solve(TridiagonalMatrix a, double[] b) {
+        double[] x = new double[b.length];
+        solve(a, b, x);
+        return x;
+    }
+
+    /**
+     * Solve the linear system Ax = b and store the solution in x. x and b may be the same array.
+     * @throws IllegalArgumentException if A is not diagonally dominant.
+     */
+    public void solve(TridiagonalMatrix a, double[] b, double[] x) {
+        int n = a.getSize();
+        if (b.length != n || x.length != n) {
+            throw new IllegalArgumentException("expected vectors of length " + n);
+        }
+        int blocks = Math.min((n + 1) / (threshold + 1), 4 * pool.getParallelism());
+        if (blocks < 2) {
+            for (int i = 0; i < n; i++) {
+                checkDominance(a, i);
+            }
+            a.factorize().solve(b, x);
+            return;
+        }
+
+        // block j has the rows start[j], ..., start[j + 1] - 2, the row start[j + 1] - 1 is a separator
+        int[] start = new int[blocks + 1];
+        for (int j = 0; j <= blocks; j++) {
+            start[j] = (int) ((long) j * (n + 1) / blocks);
+        }
+
+        double[] v = new double[n];
+        double[] w = new double[n];
+        pool.invoke(new Blocks(a, b, x, v, w, start, 0, blocks, false));
+
+        // reduced system for the separators r_j = start[j + 1] - 1
+        int m = blocks - 1;
+        TridiagonalMatrix reduced = new TridiagonalMatrix(m);
+        double[] separators = new double[m];
+        for (int j = 0; j < m; j++) {
+            int r = start[j + 1] - 1;
+            checkDominance(a, r);
+            double l = a.getLower(r - 1);
+            double u = a.getUpper(r);
+            // x_{r-1} is the last row of block j, x_{r+1} the first row of block j + 1
+            reduced.setDiagonal(j, a.getDiagonal(r) - l * w[r - 1] - u * v[r + 1]);
+            if (j > 0) {
+                reduced.setLower(j - 1, -l * v[r - 1]);
+            }
+            if (j < m - 1) {
+                reduced.setUpper(j, -u * w[r + 1]);
+            }
+            separators[j] = b[r] - l * x[r - 1] - u * x[r + 1];
+        }
+        reduced.factorize().solve(separators);
+        for (int j = 0; j < m; j++) {
+            x[start[j + 1] - 1] = separators[j];
+        }
+
+        pool.invoke(new Blocks(a, b, x, v, w, start, 0, blocks, true));
+    }
+
+    private static void checkDominance(TridiagonalMatrix a, int i) {
+        int n = a.getSize();
+        double offDiagonal = (i > 0 ? Math.abs(a.getLower(i - 1)) : 0) + (i < n - 1 ? Math.abs(a.getUpper(i)) : 0);
+        if (!(Math.abs(a.getDiagonal(i)) >= offDiagonal) || a.getDiagonal(i) == 0) {
+            throw new IllegalArgumentException("matrix is not diagonally dominant in row " + i);
+        }
+    }
+
+    /**
+     * Processes the blocks from, ..., to - 1: either the elimination, which computes y, v and w, or the substitution
+     * of the separator values.
+     */
+    private static final class Blocks extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final TridiagonalMatrix a;
+        private final double[] b;
+        private final double[] x;
+        private final double[] v;
+        private final double[] w;
+        private final int[] start;
+        private final int from;
+        private final int to;
+        private final boolean substitute;
+
+        Blocks(TridiagonalMatrix a, double[] b, double[] x, double[] v, double[] w, int[] start, int from, int to,
+               boolean substitute) {
+            this.a = a;
+            this.b = b;
+            this.x = x;
+            this.v = v;
+            this.w = w;
+            this.start = start;
+            this.from = from;
+            this.to = to;
+            this.substitute = substitute;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Blocks(a, b, x, v, w, start, from, mid, substitute),
+                        new Blocks(a, b, x, v, w, start, mid, to, substitute));
+                return;
+            }
+            int s = start[from];
+            int e = start[from + 1] - 1;
+            if (substitute) {
+                substitute(s, e);
+            } else {
+                eliminate(s, e);
+            }
+        }
+
+        /**
+         * Solves the block s, ..., e - 1 for the right-hand sides b, l_{s-1} e_s and u_{e-1} e_{e-1}. The solutions
+         * are stored in x, v and w. During the elimination, w holds the pivots.
+         */
+        private void eliminate(int s, int e) {
+            int n = a.getSize();
+            checkDominance(a, s);
+            double pivot = a.getDiagonal(s);
+            w[s] = pivot;
+            x[s] = b[s];
+            v[s] = s > 0 ? a.getLower(s - 1) : 0;
+            for (int i = s + 1; i < e; i++) {
+                checkDominance(a, i);
+                double factor = a.getLower(i - 1) / pivot;
+                pivot = a.getDiagonal(i) - factor * a.getUpper(i - 1);
+                w[i] = pivot;
+                x[i] = b[i] - factor * x[i - 1];
+                v[i] = -factor * v[i - 1];
+            }
+
+            // back substitution, the right-hand side of w is 0 except in the last row
+            double inv = 1 / w[e - 1];
+            x[e - 1] *= inv;
+            v[e - 1] *= inv;
+            w[e - 1] = e < n ? a.getUpper(e - 1) * inv : 0;
+            for (int i = e - 2; i >= s; i--) {
+                double u = a.getUpper(i);
+                inv = 1 / w[i];
+                x[i] = (x[i] - u * x[i + 1]) * inv;
+                v[i] = (v[i] - u * v[i + 1]) * inv;
+                w[i] = -u * w[i + 1] * inv;
+            }
+        }
+
+        /**
+         * x_i = y_i - v_i x_{s-1} - w_i x_e for the block s, ..., e - 1.
+         */
+        private void substitute(int s, int e) {
+            double left = s > 0 ? x[s - 1] : 0;
+            double right = e < a.getSize() ? x[e] : 0;
+            for (int i = s; i < e; i++) {
+                x[i] -= v[i] * left + w[i] * right;
+            }
+        }
+    }
+}
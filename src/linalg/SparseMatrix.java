@@ -0,0 +1,145 @@
+package linalg;
+
+import java.util.Arrays;
+
+/**
+ * Immutable sparse matrix in compressed row storage: the nonzero entries of row i are values[p] in the columns
+ * columns[p] for p = rowStart[i], ..., rowStart[i + 1] - 1. Products only touch the stored entries.
+ */
+public final class SparseMatrix {
+    /**
+     * Dimensions.
+     */
+    private final int rows;
+    private final int cols;
+
+    /**
+     * Start of every row in columns and values, has length rows + 1.
+     */
+    private final int[] rowStart;
+
+    /**
+     * Column indices and values of the stored entries, row by row.
+     */
+    private final int[] columns;
+    private final double[] values;
+
+    private SparseMatrix(int rows, int cols, int[] rowStart, int[] columns, double[] values) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rowStart = rowStart;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * Creates a sparse matrix from compressed column storage: the entries of column j are values[p] in the rows
+     * rowIndex[p] for p = colStart[j], ..., colStart[j + 1] - 1, with increasing row indices. The arrays aren't
+     * modified.
+     * @param rows number of rows.
+     * @param cols number of columns.
+     * @param colStart start of every column in rowIndex and values, has length cols + 1.
+     * @param rowIndex row indices of the entries, column by column.
+     * @param values values of the entries, column by column.
+     */
+    public static SparseMatrix fromColumns(int rows, int cols, int[] colStart, int[] rowIndex, double[] values) {
+        if (rows < 0 || cols < 0 || colStart.length != cols + 1) {
+            throw new IllegalArgumentException("expected " + (cols + 1) + " column starts, got " + colStart.length);
+        }
+        int count = colStart[cols];
+
+        // count the entries of every row, then place them column by column, which keeps the columns sorted
+        int[] rowStart = new int[rows + 1];
+        for (int p = 0; p < count; p++) {
+            rowStart[rowIndex[p] + 1]++;
+        }
+        for (int i = 0; i < rows; i++) {
+            rowStart[i + 1] += rowStart[i];
+        }
+        int[] next = Arrays.copyOf(rowStart, rows);
+        int[] columns = new int[count];
+        double[] rowValues = new double[count];
+        for (int j = 0; j < cols; j++) {
+            for (int p = colStart[j]; p < colStart[j + 1]; p++) {
+                int q = next[rowIndex[p]]++;
+                columns[q] = j;
+                rowValues[q] = values[p];
+            }
+        }
+        return new SparseMatrix(rows, cols, rowStart, columns, rowValues);
+    }
+
+    /**
+     * Returns the number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     */
+    public int getColumns() {
+        return cols;
+    }
+
+    /**
+     * Returns the number of stored entries.
+     */
+    public int getNonZeros() {
+        return values.length;
+    }
+
+    /**
+     * Returns entry (i, j).
+     */
+    public double get(int i, int j) {
+        int from = rowStart[i];
+        int to = rowStart[i + 1];
+        int p = Arrays.binarySearch(columns, from, to, j);
+        return p >= 0 ? values[p] : 0;
+    }
+
+    /**
+     * Computes the matrix-vector product result = A v.
+     * @param v vector of length cols.
+     * @param result vector of length rows, overwritten with the product.
+     */
+    public void multiply(double[] v, double[] result) {
+        if (v.length != cols || result.length != rows) {
+            throw new IllegalArgumentException("dimensions don't match");
+        }
+        for (int i = 0; i < rows; i++) {
+            double sum = 0;
+            for (int p = rowStart[i]; p < rowStart[i + 1]; p++) {
+                sum += values[p] * v[columns[p]];
+            }
+            result[i] = sum;
+        }
+    }
+
+    /**
+     * Computes the matrix product A B, where B is given by its rows.
+     * Row i of the product is the sum of a_ij times row j of B, so the rows of B are read contiguously.
+     * @param b matrix with cols rows of equal length.
+     * @return the product with rows rows.
+     */
+    public double[][] multiply(double[][] b) {
+        if (b.length != cols) {
+            throw new IllegalArgumentException("expected " + cols + " rows, got " + b.length);
+        }
+        int width = cols == 0 ? 0 : b[0].length;
+        double[][] result = new double[rows][width];
+        for (int i = 0; i < rows; i++) {
+            double[] row = result[i];
+            for (int p = rowStart[i]; p < rowStart[i + 1]; p++) {
+                double a = values[p];
+                double[] other = b[columns[p]];
+                for (int j = 0; j < width; j++) {
+                    row[j] += a * other[j];
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,226 @@
+package linalg;
+
+import util.LruCache;
+
+import java.util.Arrays;
+
+/**
+ * Tridiagonal matrix with constant diagonals, i.e. lower, diagonal and upper are the same in every row, like the
+ * matrix (1, 4, 1) of the cubic splines. The matrix itself needs O(1) storage.
+ * The Thomas algorithm computes the pivots p_0 = d, p_i = d - l u / p_{i-1}, which only depend on the three
+ * constants. For diagonally dominant matrices, they converge fast to a fixed point (for (1, 4, 1) after about 30 rows),
+ * so only the pivots up to convergence are stored and the last one is used for all further rows. If 4 l u >= d^2, the
+ * pivots don't converge safely, and all n of them are stored. The pivots are cached in an LruCache for the most
+ * recently used constants and shared by all sizes.
+ * Instances are immutable and can be shared between threads.
+ */
+public final class ToeplitzTridiagonalMatrix {
+    /**
+     * Number of cached pivot sequences.
+     */
+    private static final int CACHE_CAPACITY = 16;
+
+    private static final LruCache<Key, Pivots> CACHE = new LruCache<>(CACHE_CAPACITY);
+
+    /**
+     * Dimension.
+     */
+    private final int n;
+
+    /**
+     * Values on the lower diagonal, the diagonal and the upper diagonal.
+     */
+    private final double lower;
+    private final double diagonal;
+    private final double upper;
+
+    /**
+     * Elimination factors and inverse pivots of the first rows.
+     */
+    private final Pivots pivots;
+
+    /**
+     * Creates the n x n matrix with the constant diagonals.
+     * @throws ArithmeticException if a pivot is 0.
+     */
+    public ToeplitzTridiagonalMatrix(int n, double lower, double diagonal, double upper) {
+        if (n < 1) {
+            throw new IllegalArgumentException("dimension must be positive, got " + n);
+        }
+        this.n = n;
+        this.lower = lower;
+        this.diagonal = diagonal;
+        this.upper = upper;
+        this.pivots = pivots(lower, diagonal, upper, n);
+    }
+
+    /**
+     * Returns the cached pivots for the constants, if they converged or cover n rows. Otherwise, they are computed and
+     * cached.
+     */
+    private static Pivots pivots(double lower, double diagonal, double upper, int n) {
+        return CACHE.get(new Key(lower, diagonal, upper), p -> p.converged || p.factor.length >= n,
+                key -> new Pivots(lower, diagonal, upper, n));
+    }
+
+    /**
+     * Removes all cached pivots.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Returns the dimension.
+     */
+    public int getSize() {
+        return n;
+    }
+
+    /**
+     * Returns the value on the lower diagonal.
+     */
+    public double getLower() {
+        return lower;
+    }
+
+    /**
+     * Returns the value on the diagonal.
+     */
+    public double getDiagonal() {
+        return diagonal;
+    }
+
+    /**
+     * Returns the value on the upper diagonal.
+     */
+    public double getUpper() {
+        return upper;
+    }
+
+    /**
+     * Solve the linear system Ax = b in place.
+     * @param b right-hand side of length n, overwritten with the solution.
+     */
+    public void solve(double[] b) {
+        solve(b, b);
+    }
+
+    /**
+     * Solve the linear system Ax = b and store the solution in x. x and b may be the same array.
+     */
+    public void solve(double[] b, double[] x) {
+        if (b.length != n || x.length != n) {
+            throw new IllegalArgumentException("expected vectors of length " + n);
+        }
+        double[] factor = pivots.factor;
+        double[] inversePivot = pivots.inversePivot;
+        int last = factor.length - 1;
+
+        // forward substitution
+        double y = b[0];
+        x[0] = y;
+        for (int i = 1; i < n; i++) {
+            y = b[i] - factor[Math.min(i - 1, last)] * y;
+            x[i] = y;
+        }
+
+        // back substitution
+        double next = x[n - 1] * inversePivot[Math.min(n - 1, last)];
+        x[n - 1] = next;
+        for (int i = n - 2; i >= 0; i--) {
+            next = (x[i] - upper * next) * inversePivot[Math.min(i, last)];
+            x[i] = next;
+        }
+    }
+
+    /**
+     * Solve the k linear systems Ax_s = b_s in place, where the right-hand sides are interleaved, i.e. entry i of b_s
+     * is b[i * k + s], like TridiagonalLU.solveInterleaved.
+     * @param b right-hand sides of length n * k, overwritten with the solutions.
+     * @param k number of right-hand sides.
+     */
+    public void solveInterleaved(double[] b, int k) {
+        TridiagonalLU.solveInterleaved(n, pivots.factor, pivots.inversePivot, pivots.upper, b, k);
+    }
+
+    /**
+     * Elimination factors l / p_i and inverse pivots 1 / p_i of the rows i = 0, ..., length - 1. If converged is set,
+     * the last entries hold for all further rows.
+     * The pivots converge to the larger root of p^2 - d p + l u = 0 if it is real and simple, i.e. if 4 l u < d^2.
+     * Otherwise, e.g. for (1, 2, 1), they may change by less than an ulp from one row to the next and still drift
+     * away, so they are computed for all n rows.
+     */
+    private static final class Pivots {
+        private final double[] factor;
+        private final double[] inversePivot;
+        private final boolean converged;
+
+        /**
+         * The constant upper diagonal as an array of length 1, for TridiagonalLU.solveInterleaved.
+         */
+        private final double[] upper;
+
+        Pivots(double lower, double diagonal, double upper, int n) {
+            boolean convergent = 4 * lower * upper < diagonal * diagonal;
+            double[] f = new double[Math.min(n, 64)];
+            double[] inv = new double[f.length];
+            double pivot = diagonal;
+            int length = 0;
+            boolean done = false;
+            while (length < n) {
+                if (pivot == 0) {
+                    throw new ArithmeticException("zero pivot in row " + length);
+                }
+                if (length == f.length) {
+                    f = Arrays.copyOf(f, Math.min(2 * length, n));
+                    inv = Arrays.copyOf(inv, f.length);
+                }
+                inv[length] = 1 / pivot;
+                f[length] = lower / pivot;
+                length++;
+
+                double next = diagonal - f[length - 1] * upper;
+                if (convergent && Math.abs(next - pivot) <= Math.ulp(pivot)) {
+                    done = true;
+                    break;
+                }
+                pivot = next;
+            }
+            this.factor = Arrays.copyOf(f, length);
+            this.inversePivot = Arrays.copyOf(inv, length);
+            this.converged = done;
+            this.upper = new double[] {upper};
+        }
+    }
+
+    /**
+     * Cache key: the three constants.
+     */
+    private static final class Key {
+        private final double lower;
+        private final double diagonal;
+        private final double upper;
+
+        Key(double lower, double diagonal, double upper) {
+            this.lower = lower;
+            this.diagonal = diagonal;
+            this.upper = upper;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Double.compare(lower, other.lower) == 0 && Double.compare(diagonal, other.diagonal) == 0
+                    && Double.compare(upper, other.upper) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Double.hashCode(lower) + Double.hashCode(diagonal)) + Double.hashCode(upper);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package linalg;
+
+/**
+ * LU decomposition of a tridiagonal matrix A without pivoting, see TridiagonalMatrix.factorize.
+ * L has ones on the diagonal and the elimination factors on the lower diagonal, U has the pivots on the diagonal and
+ * the upper diagonal of A. A solve is the forward substitution with L and the back substitution with U, i.e. the
+ * Thomas algorithm without the elimination of the matrix. The solves don't allocate, and the factorization is
+ * immutable, so it can be shared between threads.
+ */
+public final class TridiagonalLU {
+    /**
+     * Dimension.
+     */
+    private final int n;
+
+    /**
+     * Elimination factors l_i = lower_i / p_i, has length n-1.
+     */
+    private final double[] factor;
+
+    /**
+     * Inverse pivots 1 / p_i, has length n.
+     */
+    private final double[] inversePivot;
+
+    /**
+     * Upper diagonal of A, has length n-1.
+     */
+    private final double[] upper;
+
+    TridiagonalLU(double[] lower, double[] diagonal, double[] upper) {
+        this.n = diagonal.length;
+        this.factor = new double[n - 1];
+        this.inversePivot = new double[n];
+        this.upper = upper.clone();
+
+        double pivot = diagonal[0];
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                pivot = diagonal[i] - factor[i - 1] * upper[i - 1];
+            }
+            if (pivot == 0) {
+                throw new ArithmeticException("zero pivot in row " + i);
+            }
+            inversePivot[i] = 1 / pivot;
+            if (i < n - 1) {
+                factor[i] = lower[i] * inversePivot[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the dimension.
+     */
+    public int getSize() {
+        return n;
+    }
+
+    /**
+     * Solves Ax = b in place.
+     * @param b right-hand side of length n, overwritten with the solution.
+     */
+    public void solve(double[] b) {
+        solve(b, 0, b, 0);
+    }
+
+    /**
+     * Solves Ax = b and stores the solution in x. b is not modified, unless x and b are the same array.
+     * @param b right-hand side of length n.
+     * @param x solution of length n.
+     */
+    public void solve(double[] b, double[] x) {
+        solve(b, 0, x, 0);
+    }
+
+    /**
+     * Solves Ax = b for b = b[bOffset], ..., b[bOffset + n - 1] and stores x in x[xOffset], ..., x[xOffset + n - 1].
+     */
+    public void solve(double[] b, int bOffset, double[] x, int xOffset) {
+        if (bOffset < 0 || xOffset < 0 || bOffset + n > b.length || xOffset + n > x.length) {
+            throw new IndexOutOfBoundsException("vector of length " + n + " is outside of the arrays");
+        }
+        // forward substitution, y_i = b_i - l_{i-1} y_{i-1}
+        double y = b[bOffset];
+        x[xOffset] = y;
+        for (int i = 1; i < n; i++) {
+            y = b[bOffset + i] - factor[i - 1] * y;
+            x[xOffset + i] = y;
+        }
+
+        // back substitution
+        double next = x[xOffset + n - 1] * inversePivot[n - 1];
+        x[xOffset + n - 1] = next;
+        for (int i = n - 2; i >= 0; i--) {
+            next = (x[xOffset + i] - upper[i] * next) * inversePivot[i];
+            x[xOffset + i] = next;
+        }
+    }
+
+    /**
+     * Solves AX = B in place for k right-hand sides, which are stored column by column, i.e. entry i of column s is
+     * b[s * n + i].
+     * @param b right-hand sides of length n * k, overwritten with the solutions.
+     * @param k number of right-hand sides.
+     */
+    public void solveColumns(double[] b, int k) {
+        if (k < 0 || b.length != n * k) {
+            throw new IllegalArgumentException("expected " + n + " * " + k + " values, got " + b.length);
+        }
+        for (int s = 0; s < k; s++) {
+            solve(b, s * n, b, s * n);
+        }
+    }
+
+    /**
+     * Solves AX = B in place for k right-hand sides, which are interleaved, i.e. entry i of column s is b[i * k + s].
+     * Every step works on k consecutive values. TridiagonalMatrix.solveLinearSystems is a copying shortcut for this.
+     * @param b right-hand sides of length n * k, overwritten with the solutions.
+     * @param k number of right-hand sides.
+     */
+    public void solveInterleaved(double[] b, int k) {
+        solveInterleaved(n, factor, inversePivot, upper, b, k);
+    }
+
+    /**
+     * Forward and back substitution of solveInterleaved for the n x n matrix with the given elimination factors,
+     * inverse pivots and upper diagonal. Rows beyond the end of an array use its last entry, so
+     * ToeplitzTridiagonalMatrix can pass its converged pivots and its constant upper diagonal.
+     */
+    static void solveInterleaved(int n, double[] factor, double[] inversePivot, double[] upper, double[] b, int k) {
+        if (k < 0 || b.length != n * k) {
+            throw new IllegalArgumentException("expected " + n + " * " + k + " values, got " + b.length);
+        }
+        int lastFactor = factor.length - 1;
+        int lastPivot = inversePivot.length - 1;
+        int lastUpper = upper.length - 1;
+        for (int i = 1; i < n; i++) {
+            double l = factor[Math.min(i - 1, lastFactor)];
+            int row = i * k;
+            for (int s = row; s < row + k; s++) {
+                b[s] -= l * b[s - k];
+            }
+        }
+        int row = (n - 1) * k;
+        double inv = inversePivot[Math.min(n - 1, lastPivot)];
+        for (int s = row; s < row + k; s++) {
+            b[s] *= inv;
+        }
+        for (int i = n - 2; i >= 0; i--) {
+            row = i * k;
+            double u = upper[Math.min(i, lastUpper)];
+            inv = inversePivot[Math.min(i, lastPivot)];
+            for (int s = row; s < row + k; s++) {
+                b[s] = (b[s] - u * b[s + k]) * inv;
+            }
+        }
+    }
+}
@@ -70,6 +70,65 @@ public class TridiagonalMatrix {
             this.upper[i] = d;
         }
     }
+
+    /**
+     * Sets entry (i + 1, i) on the lower diagonal to d, 0 <= i < n - 1.
+     */
+    public void setLower(int i, double d) {
+        lower[i] = d;
+    }
+
+    /**
+     * Sets entry (i, i) on the diagonal to d, 0 <= i < n.
+     */
+    public void setDiagonal(int i, double d) {
+        diagonal[i] = d;
+    }
+
+    /**
+     * Sets entry (i, i + 1) on the upper diagonal to d, 0 <= i < n - 1.
+     */
+    public void setUpper(int i, double d) {
+        upper[i] = d;
+    }
+
+    /**
+     * Returns entry (i + 1, i) on the lower diagonal.
+     */
+    public double getLower(int i) {
+        return lower[i];
+    }
+
+    /**
+     * Returns entry (i, i) on the diagonal.
+     */
+    public double getDiagonal(int i) {
+        return diagonal[i];
+    }
+
+    /**
+     * Returns entry (i, i + 1) on the upper diagonal.
+     */
+    public double getUpper(int i) {
+        return upper[i];
+    }
+
+    /**
+     * Returns the dimension.
+     */
+    public int getSize() {
+        return n;
+    }
+
+    /**
+     * Computes the LU decomposition without pivoting, i.e. the forward elimination of the Thomas algorithm. The
+     * factorization can solve any number of right-hand sides without repeating the elimination. Later changes of
+     * this matrix don't affect it.
+     * @throws ArithmeticException if a pivot is 0.
+     */
+    public TridiagonalLU factorize() {
+        return new TridiagonalLU(lower, diagonal, upper);
+    }
     /**
      * Create a string representation of the matrix..
      */
@@ -121,4 +180,19 @@ public class TridiagonalMatrix {
         return x;
     }
 
+    /**
+     * Solve the k linear systems Ax_s = b_s (s = 0, ..., k-1) with the same tridiagonal matrix A at once.
+     * The right-hand sides are interleaved, i.e. entry i of b_s is b[i * k + s], and the solutions are stored the same
+     * way. This factorizes A once and solves with TridiagonalLU.solveInterleaved, so use factorize directly to solve
+     * with the same matrix repeatedly.
+     * @param b right-hand sides, has length n * k. It is not modified.
+     * @param k number of right-hand sides.
+     * @return the solutions, interleaved like b.
+     */
+    public double[] solveLinearSystems(double[] b, int k) {
+        double[] x = Arrays.copyOf(b, b.length);
+        factorize().solveInterleaved(x, k);
+        return x;
+    }
+
 }
@@ -0,0 +1,49 @@
+package tests;
+
+import linalg.BandMatrix;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BandMatrixTests {
+    @Test
+    void solvePentadiagonal() {
+        int n = 12;
+        BandMatrix a = new BandMatrix(n, 2, 2);
+        a.fillDiagonal(0, 6);
+        a.fillDiagonal(1, -1);
+        a.fillDiagonal(-1, -1.5);
+        a.fillDiagonal(2, 0.5);
+        a.fillDiagonal(-2, 1);
+        a.set(3, 5, 2);
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = Math.sin(i) + 1;
+        }
+        double[] x = a.solveLinearSystem(b);
+        assertArrayEquals(b, a.multiply(x), 1e-12);
+        assertEquals(2, a.get(3, 5), 0);
+        assertEquals(0, a.get(0, 5), 0);
+    }
+
+    @Test
+    void asymmetricBand() {
+        int n = 9;
+        BandMatrix a = new BandMatrix(n, 1, 3);
+        for (int i = 0; i < n; i++) {
+            for (int j = Math.max(0, i - 1); j <= Math.min(n - 1, i + 3); j++) {
+                a.set(i, j, i == j ? 8 : 1.0 / (1 + i + 2 * j));
+            }
+        }
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = i - 4;
+        }
+        double[] x = new double[n];
+        a.factorize().solve(b, x);
+        assertArrayEquals(b, a.multiply(x), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> a.set(5, 0, 1));
+    }
+}
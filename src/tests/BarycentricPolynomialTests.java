@@ -0,0 +1,45 @@
+package tests;
+
+import interpolation.BarycentricPolynomial;
+import interpolation.NewtonPolynomial;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BarycentricPolynomialTests {
+    @Test
+    void equidistant() {
+        double[] y = {3, 0, 1, -2, 4, 0.5};
+        BarycentricPolynomial p = new BarycentricPolynomial();
+        p.init(-1, 4, y);
+        NewtonPolynomial newton = new NewtonPolynomial();
+        newton.init(-1, 4, y);
+        for (double z = -1.5; z < 4.5; z += 0.37) {
+            assertEquals(newton.evaluate(z), p.evaluate(z), 1e-10);
+        }
+        assertEquals(1, p.evaluate(1), 0);
+    }
+
+    @Test
+    void nonUniformGrid() {
+        double[] x = {0, 0.1, 0.5, 2, 2.2};
+        double[] y = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            y[i] = x[i] * x[i] * x[i] - 2 * x[i];
+        }
+        BarycentricPolynomial p = new BarycentricPolynomial();
+        p.init(x, y);
+        assertEquals(1.5 * 1.5 * 1.5 - 3, p.evaluate(1.5), 1e-12);
+        assertEquals(-0.125 + 1, p.evaluate(-0.5), 1e-12);
+    }
+
+    @Test
+    void setValues() {
+        BarycentricPolynomial p = new BarycentricPolynomial();
+        p.init(0, 2, new double[]{3, 0, 1});
+        assertEquals(28, p.evaluate(5), 1e-12);
+        // 2 z^2 + 1
+        p.setValues(new double[]{1, 3, 9});
+        assertEquals(51, p.evaluate(5), 1e-12);
+    }
+}
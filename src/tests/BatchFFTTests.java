@@ -0,0 +1,76 @@
+package tests;
+
+import fourier.BatchFFT;
+import fourier.FFTPlan;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BatchFFTTests {
+    /**
+     * Transforms every row with the batch and compares it with the transform of the single row.
+     */
+    private static void assertRowsMatch(BatchFFT batch, int rows, int cols) {
+        double[] re = FourierReference.signal(rows * cols, 0);
+        double[] im = FourierReference.signal(rows * cols, 2);
+        double[] originalRe = re.clone();
+        double[] originalIm = im.clone();
+        FFTPlan plan = FFTPlan.forSize(cols);
+
+        batch.fft(re, im, rows, cols);
+        for (int r = 0; r < rows; r++) {
+            double[] rowRe = Arrays.copyOfRange(originalRe, r * cols, (r + 1) * cols);
+            double[] rowIm = Arrays.copyOfRange(originalIm, r * cols, (r + 1) * cols);
+            plan.forward(rowRe, rowIm);
+            String message = "fft, row " + r + " of " + rows + " x " + cols;
+            assertArrayEquals(rowRe, Arrays.copyOfRange(re, r * cols, (r + 1) * cols), 1e-13, message);
+            assertArrayEquals(rowIm, Arrays.copyOfRange(im, r * cols, (r + 1) * cols), 1e-13, message);
+        }
+
+        double[] transformedRe = re.clone();
+        double[] transformedIm = im.clone();
+        batch.ifft(re, im, rows, cols);
+        for (int r = 0; r < rows; r++) {
+            double[] rowRe = Arrays.copyOfRange(transformedRe, r * cols, (r + 1) * cols);
+            double[] rowIm = Arrays.copyOfRange(transformedIm, r * cols, (r + 1) * cols);
+            plan.inverse(rowRe, rowIm);
+            String message = "ifft, row " + r + " of " + rows + " x " + cols;
+            assertArrayEquals(rowRe, Arrays.copyOfRange(re, r * cols, (r + 1) * cols), 1e-12, message);
+            assertArrayEquals(rowIm, Arrays.copyOfRange(im, r * cols, (r + 1) * cols), 1e-12, message);
+        }
+        assertArrayEquals(originalRe, re, 1e-12, "round trip " + rows + " x " + cols);
+        assertArrayEquals(originalIm, im, 1e-12, "round trip " + rows + " x " + cols);
+    }
+
+    @Test
+    void rowsMatchSingleTransforms() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            // powers of two, mixed radix and Bluestein
+            for (int cols : new int[] {8, 12, 13}) {
+                // two rows per task, so 7 rows are split unevenly into 3 + 4, then 1 + 2 and 2 + 2
+                assertRowsMatch(new BatchFFT(pool, 2 * cols), 7, cols);
+                assertRowsMatch(new BatchFFT(pool, 1), 5, cols);
+                assertRowsMatch(new BatchFFT(pool, 3 * cols + 1), 11, cols);
+                // everything in one task
+                assertRowsMatch(new BatchFFT(pool, 1 << 20), 4, cols);
+            }
+            assertRowsMatch(new BatchFFT(), 3, 16);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void emptyAndInvalid() {
+        BatchFFT batch = new BatchFFT(ForkJoinPool.commonPool(), 4);
+        batch.fft(new double[0], new double[0], 0, 8);
+        assertThrows(IllegalArgumentException.class, () -> batch.fft(new double[15], new double[15], 2, 8));
+        assertThrows(IllegalArgumentException.class, () -> batch.ifft(new double[16], new double[8], 2, 8));
+        assertThrows(IllegalArgumentException.class, () -> new BatchFFT(ForkJoinPool.commonPool(), 0));
+    }
+}
@@ -0,0 +1,78 @@
+package tests;
+
+import interpolation.BarycentricPolynomial;
+import interpolation.ChebyshevInterpolation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChebyshevInterpolationTests {
+    @Test
+    void coefficientsMatchDefinition() {
+        // 15 points use the mixed radix FFT, 16 points the radix-2 FFT
+        for (int count : new int[]{15, 16}) {
+            double[] x = ChebyshevInterpolation.nodes(-1, 1, count);
+            double[] y = new double[count];
+            for (int j = 0; j < count; j++) {
+                y[j] = Math.sin(3 * x[j]) + x[j] * x[j];
+            }
+            ChebyshevInterpolation p = new ChebyshevInterpolation();
+            p.fitAtChebyshevNodes(-1, 1, y);
+            double[] c = p.getCoefficients();
+            for (int k = 0; k < count; k++) {
+                double sum = 0;
+                for (int j = 0; j < count; j++) {
+                    sum += y[j] * Math.cos(k * Math.acos(x[j]));
+                }
+                assertEquals((k == 0 ? 1.0 : 2.0) / count * sum, c[k], 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void smoothFunction() {
+        double[] x = ChebyshevInterpolation.nodes(-1, 2, 40);
+        double[] y = new double[x.length];
+        for (int j = 0; j < x.length; j++) {
+            y[j] = Math.exp(x[j]);
+        }
+        ChebyshevInterpolation p = new ChebyshevInterpolation();
+        p.fitAtChebyshevNodes(-1, 2, y);
+        int remaining = p.truncate(1e-15);
+        assertTrue(remaining < 25);
+        for (double z = -1; z <= 2; z += 0.01) {
+            assertEquals(Math.exp(z), p.evaluate(z), 1e-13);
+        }
+    }
+
+    @Test
+    void equidistantSamples() {
+        double[] y = new double[11];
+        for (int i = 0; i < y.length; i++) {
+            y[i] = Math.sin(0.3 * i) + 0.1 * i * i;
+        }
+        ChebyshevInterpolation p = new ChebyshevInterpolation();
+        p.init(0, 5, y);
+        BarycentricPolynomial expected = new BarycentricPolynomial();
+        expected.init(0, 5, y);
+        // same polynomial, so it interpolates the samples
+        for (int i = 0; i < y.length; i++) {
+            assertEquals(y[i], p.evaluate(0.5 * i), 1e-12);
+        }
+        for (double z = 0; z <= 5; z += 0.07) {
+            assertEquals(expected.evaluate(z), p.evaluate(z), 1e-12);
+        }
+
+        // polynomials of lower degree are reproduced exactly
+        double[] cubic = new double[6];
+        for (int i = 0; i < cubic.length; i++) {
+            double x = -1 + 0.4 * i;
+            cubic[i] = x * x * x - 2 * x;
+        }
+        p.init(-1, 1, cubic);
+        assertTrue(p.truncate(1e-14) <= 4);
+        assertEquals(-0.125 + 1, p.evaluate(-0.5), 1e-14);
+        assertEquals(8 - 4, p.evaluate(2), 1e-13);
+    }
+}
@@ -0,0 +1,163 @@
+package tests;
+
+import fourier.Complex;
+import fourier.ComplexArray;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ComplexArrayTests {
+    private static final int N = 37;
+
+    private static ComplexArray vector(double phase) {
+        return new ComplexArray(FourierReference.signal(N, phase), FourierReference.signal(N, 2 * phase + 1));
+    }
+
+    private static void assertElements(Complex[] expected, ComplexArray actual, String message) {
+        assertEquals(expected.length, actual.length());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getReal(), actual.getReal(i), 1e-15, message + ", i = " + i);
+            assertEquals(expected[i].getImaginary(), actual.getImaginary(i), 1e-15, message + ", i = " + i);
+        }
+    }
+
+    /**
+     * Checks the allocating and the InPlace variant of a binary operation against Complex, element by element.
+     */
+    private static void assertBinary(BinaryOperator<ComplexArray> op, BinaryOperator<ComplexArray> inPlace,
+                                     BinaryOperator<Complex> reference, String message) {
+        ComplexArray a = vector(0.3);
+        ComplexArray b = vector(1.7);
+        Complex[] x = a.toComplex();
+        Complex[] y = b.toComplex();
+        Complex[] expected = new Complex[N];
+        for (int i = 0; i < N; i++) {
+            expected[i] = reference.apply(x[i], y[i]);
+        }
+
+        assertElements(expected, op.apply(a, b), message);
+        // operands are unchanged
+        assertElements(x, a, message);
+        assertElements(y, b, message);
+
+        assertSame(a, inPlace.apply(a, b));
+        assertElements(expected, a, message + " in place");
+        assertElements(y, b, message + " in place");
+    }
+
+    private static void assertUnary(UnaryOperator<ComplexArray> op, UnaryOperator<ComplexArray> inPlace,
+                                    UnaryOperator<Complex> reference, String message) {
+        ComplexArray a = vector(0.8);
+        Complex[] x = a.toComplex();
+        Complex[] expected = new Complex[N];
+        for (int i = 0; i < N; i++) {
+            expected[i] = reference.apply(x[i]);
+        }
+
+        assertElements(expected, op.apply(a), message);
+        assertElements(x, a, message);
+        assertSame(a, inPlace.apply(a));
+        assertElements(expected, a, message + " in place");
+    }
+
+    @Test
+    void elementWise() {
+        assertBinary(ComplexArray::add, ComplexArray::addInPlace, Complex::add, "add");
+        assertBinary(ComplexArray::sub, ComplexArray::subInPlace, Complex::sub, "sub");
+        assertBinary(ComplexArray::mul, ComplexArray::mulInPlace, Complex::mul, "mul");
+        assertBinary(ComplexArray::conjugateMul, ComplexArray::conjugateMulInPlace,
+                (x, y) -> x.mul(y.conjugate()), "conjugateMul");
+        assertUnary(a -> a.scale(-2.5), a -> a.scaleInPlace(-2.5), z -> z.mul(new Complex(-2.5)), "scale");
+        assertUnary(ComplexArray::conjugate, ComplexArray::conjugateInPlace, Complex::conjugate, "conjugate");
+    }
+
+    @Test
+    void magnitudeAndPhase() {
+        ComplexArray a = vector(0.4);
+        a.set(0, 0, 0);
+        a.set(1, -1, 0);
+        a.set(2, 0, -3);
+        Complex[] x = a.toComplex();
+        double[] abs = new double[N];
+        double[] phase = new double[N];
+        a.abs(abs);
+        a.phase(phase);
+        for (int i = 0; i < N; i++) {
+            assertEquals(x[i].getAbs(), abs[i], 0, "i = " + i);
+            assertEquals(x[i].getPhi(), phase[i], 0, "i = " + i);
+        }
+        assertArrayEquals(abs, a.abs(), 0);
+        assertArrayEquals(phase, a.phase(), 0);
+        assertEquals(Math.PI, phase[1], 0);
+        assertEquals(-Math.PI / 2, phase[2], 0);
+    }
+
+    @Test
+    void reductions() {
+        ComplexArray a = vector(0.1);
+        ComplexArray b = vector(2.3);
+        Complex[] x = a.toComplex();
+        Complex[] y = b.toComplex();
+        Complex sum = new Complex();
+        Complex dot = new Complex();
+        for (int i = 0; i < N; i++) {
+            sum = sum.add(x[i]);
+            dot = dot.add(x[i].mul(y[i].conjugate()));
+        }
+        assertEquals(sum.getReal(), a.sum().getReal(), 1e-13);
+        assertEquals(sum.getImaginary(), a.sum().getImaginary(), 1e-13);
+        assertEquals(dot.getReal(), a.dot(b).getReal(), 1e-13);
+        assertEquals(dot.getImaginary(), a.dot(b).getImaginary(), 1e-13);
+        // <a, a> = |a|^2 is real
+        assertEquals(0, a.dot(a).getImaginary(), 0);
+        assertEquals(0, new ComplexArray(0).sum().getAbs(), 0);
+    }
+
+    @Test
+    void aliasing() {
+        ComplexArray a = vector(0.6);
+        Complex[] x = a.toComplex();
+        Complex[] square = new Complex[N];
+        Complex[] abs2 = new Complex[N];
+        Complex[] twice = new Complex[N];
+        Complex[] zero = new Complex[N];
+        for (int i = 0; i < N; i++) {
+            zero[i] = new Complex();
+            square[i] = x[i].mul(x[i]);
+            abs2[i] = x[i].mul(x[i].conjugate());
+            twice[i] = x[i].add(x[i]);
+        }
+        assertElements(square, new ComplexArray(a).mulInPlace(new ComplexArray(a)), "reference");
+
+        ComplexArray b = new ComplexArray(a);
+        assertElements(square, b.mulInPlace(b), "a.mulInPlace(a)");
+        b = new ComplexArray(a);
+        assertElements(abs2, b.conjugateMulInPlace(b), "a.conjugateMulInPlace(a)");
+        b = new ComplexArray(a);
+        assertElements(twice, b.addInPlace(b), "a.addInPlace(a)");
+        b = new ComplexArray(a);
+        assertElements(zero, b.subInPlace(b), "a.subInPlace(a)");
+    }
+
+    @Test
+    void rejectsLengthMismatch() {
+        ComplexArray a = new ComplexArray(4);
+        ComplexArray b = new ComplexArray(5);
+        assertThrows(IllegalArgumentException.class, () -> new ComplexArray(new double[3], new double[4]));
+        assertThrows(IllegalArgumentException.class, () -> a.add(b));
+        assertThrows(IllegalArgumentException.class, () -> a.addInPlace(b));
+        assertThrows(IllegalArgumentException.class, () -> a.sub(b));
+        assertThrows(IllegalArgumentException.class, () -> a.subInPlace(b));
+        assertThrows(IllegalArgumentException.class, () -> a.mul(b));
+        assertThrows(IllegalArgumentException.class, () -> a.mulInPlace(b));
+        assertThrows(IllegalArgumentException.class, () -> a.conjugateMul(b));
+        assertThrows(IllegalArgumentException.class, () -> a.conjugateMulInPlace(b));
+        assertThrows(IllegalArgumentException.class, () -> a.dot(b));
+    }
+}
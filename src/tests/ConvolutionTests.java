@@ -0,0 +1,149 @@
+package tests;
+
+import fourier.Convolution;
+import fourier.OverlapAdd;
+import fourier.OverlapSave;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConvolutionTests {
+    /**
+     * Full convolution by definition: result[k] = sum_j x[j] h[k - j].
+     */
+    private static double[] direct(double[] x, double[] h) {
+        double[] result = new double[x.length + h.length - 1];
+        for (int k = 0; k < result.length; k++) {
+            for (int j = Math.max(0, k - h.length + 1); j <= Math.min(k, x.length - 1); j++) {
+                result[k] += x[j] * h[k - j];
+            }
+        }
+        return result;
+    }
+
+    private static void assertConvolution(int n, int m) {
+        double[] x = FourierReference.signal(n, 0.7);
+        double[] h = FourierReference.signal(m, 0.2);
+        double[] copyX = x.clone();
+        double[] copyH = h.clone();
+        double[] expected = direct(x, h);
+        String message = n + " * " + m;
+
+        assertArrayEquals(expected, Convolution.convolve(x, h), 1e-9, message);
+        assertArrayEquals(expected, Convolution.convolveDirect(x, h), 1e-9, message);
+        assertArrayEquals(copyX, x, 0, message);
+        assertArrayEquals(copyH, h, 0, message);
+
+        // correlation: lag k - (m - 1)
+        double[] reversed = new double[m];
+        for (int i = 0; i < m; i++) {
+            reversed[i] = h[m - 1 - i];
+        }
+        assertArrayEquals(direct(x, reversed), Convolution.correlate(x, h), 1e-9, message);
+    }
+
+    @Test
+    void directSide() {
+        // n m is at most 8 N log2(N), so the convolution is evaluated directly
+        assertConvolution(1, 1);
+        assertConvolution(10, 10);
+        assertConvolution(3, 17);
+        assertConvolution(200, 5);
+    }
+
+    @Test
+    void fftSide() {
+        // n m exceeds 8 N log2(N), so the convolution is computed with the FFT
+        assertConvolution(300, 300);
+        assertConvolution(2000, 300);
+        assertConvolution(400, 1000);
+    }
+
+    @Test
+    void empty() {
+        assertEquals(0, Convolution.convolve(new double[0], new double[] {1, 2}).length);
+        assertEquals(0, Convolution.convolve(new double[] {1, 2}, new double[0]).length);
+    }
+
+    /**
+     * The first x.length values of the full convolution, i.e. the causal filter output.
+     */
+    private static double[] causal(double[] x, double[] h) {
+        return Arrays.copyOf(direct(x, h), x.length);
+    }
+
+    /**
+     * OverlapAdd.process or OverlapSave.process.
+     */
+    private interface Filter {
+        void process(double[] x, int offset, int length, double[] y, int yOffset);
+    }
+
+    /**
+     * Pushes x in chunks of the given sizes, which cross the block boundaries at different positions.
+     */
+    private static double[] stream(Filter filter, double[] x, int[] chunks) {
+        double[] y = new double[x.length];
+        int offset = 0;
+        for (int c = 0; offset < x.length; c++) {
+            int length = Math.min(chunks[c % chunks.length], x.length - offset);
+            filter.process(x, offset, length, y, offset);
+            offset += length;
+        }
+        return y;
+    }
+
+    private static final int[] CHUNKS = {1, 7, 33, 2, 100, 16};
+
+    private static void assertStreaming(int m, int blockSize) {
+        double[] x = FourierReference.signal(700, 0.4);
+        double[] h = FourierReference.signal(m, 1.1);
+        double[] expected = causal(x, h);
+        String message = "m = " + m + ", block size " + blockSize;
+
+        OverlapAdd add = new OverlapAdd(h, blockSize);
+        assertArrayEquals(expected, add.process(x), 1e-9, message);
+        add.reset();
+        assertArrayEquals(expected, stream(add::process, x, CHUNKS), 1e-9, message);
+
+        OverlapSave save = new OverlapSave(h, blockSize);
+        assertArrayEquals(expected, save.process(x), 1e-9, message);
+        save.reset();
+        assertArrayEquals(expected, stream(save::process, x, CHUNKS), 1e-9, message);
+
+        // in place
+        add.reset();
+        double[] y = x.clone();
+        add.process(y, 0, y.length, y, 0);
+        assertArrayEquals(expected, y, 1e-9, message);
+        save.reset();
+        y = x.clone();
+        save.process(y, 0, y.length, y, 0);
+        assertArrayEquals(expected, y, 1e-9, message);
+    }
+
+    @Test
+    void blockBoundaries() {
+        assertStreaming(1, 1);
+        assertStreaming(5, 16);
+        assertStreaming(31, 64);
+        assertStreaming(64, 64);
+    }
+
+    @Test
+    void kernelLongerThanBlock() {
+        assertStreaming(50, 8);
+        assertStreaming(129, 3);
+        assertStreaming(300, 1);
+    }
+
+    @Test
+    void fftSize() {
+        assertEquals(32, new OverlapAdd(new double[10], 16).getFftSize());
+        assertEquals(32, new OverlapSave(new double[10], 16).getFftSize());
+        assertEquals(64, new OverlapAdd(new double[10], 24).getFftSize());
+    }
+}
@@ -0,0 +1,77 @@
+package tests;
+
+import interpolation.CubicSpline;
+import interpolation.CubicSplineSeries;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CubicSplineSeriesTests {
+    private static final double[][] SERIES = {
+            {1, 10, 5, -1, 0, 11},
+            {0, 0, 0, 0, 0, 0},
+            {2, -3, 4, 4, 1, 0.5},
+            {-1, 0, 1, 2, 3, 4},
+    };
+
+    private static final double[] Z = {-1, 0, 0.7, 2, 3.3, 5, 7.9, 10, 12};
+
+    private static void assertMatchesSingle(CubicSplineSeries splines) {
+        assertEquals(SERIES.length, splines.getSeriesCount());
+        double[] all = new double[SERIES.length + 2];
+        for (double z : Z) {
+            splines.evaluate(z, all, 2);
+            for (int s = 0; s < SERIES.length; s++) {
+                CubicSpline single = new CubicSpline();
+                single.init(0, 10, SERIES[s]);
+                double expected = single.evaluate(z);
+                assertEquals(expected, splines.evaluate(s, z), 1e-12);
+                assertEquals(expected, all[s + 2], 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void matchesCubicSpline() {
+        CubicSplineSeries splines = new CubicSplineSeries();
+        splines.init(0, 10, SERIES);
+        assertMatchesSingle(splines);
+
+        double[] result = new double[SERIES.length];
+        splines.evaluate(4.2, result);
+        for (int s = 0; s < SERIES.length; s++) {
+            assertEquals(splines.evaluate(s, 4.2), result[s], 1e-12);
+        }
+    }
+
+    @Test
+    void initInterleaved() {
+        int count = SERIES.length;
+        int points = SERIES[0].length;
+        double[] values = new double[points * count];
+        for (int s = 0; s < count; s++) {
+            for (int i = 0; i < points; i++) {
+                values[i * count + s] = SERIES[s][i];
+            }
+        }
+        CubicSplineSeries splines = new CubicSplineSeries();
+        splines.initInterleaved(0, 10, values, count);
+        assertMatchesSingle(splines);
+    }
+
+    @Test
+    void threePoints() {
+        double[][] series = {{1, 4, 2}, {0, -1, 3}};
+        CubicSplineSeries splines = new CubicSplineSeries();
+        splines.init(-1, 1, series);
+        double[] result = new double[2];
+        for (double z = -1.5; z <= 1.5; z += 0.25) {
+            splines.evaluate(z, result);
+            for (int s = 0; s < series.length; s++) {
+                CubicSpline single = new CubicSpline();
+                single.init(-1, 1, series[s]);
+                assertEquals(single.evaluate(z), result[s], 1e-12);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package tests;
+
+import interpolation.CubicSpline;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CubicSplineTests {
+    private static final double[] Y = {1, 10, 5, -1, 0, 11};
+
+    @Test
+    void coefficientsMatchHermite() {
+        CubicSpline hermite = new CubicSpline();
+        hermite.init(0, 10, Y);
+        CubicSpline horner = new CubicSpline(true);
+        horner.init(0, 10, Y);
+
+        double[] z = new double[41];
+        for (int i = 0; i < z.length; i++) {
+            z[i] = -0.5 + 11.0 * i / (z.length - 1);
+            assertEquals(hermite.evaluate(z[i]), horner.evaluate(z[i]), 1e-12);
+        }
+        double[] expected = new double[z.length];
+        double[] result = new double[z.length];
+        hermite.evaluate(z, expected);
+        horner.evaluate(z, result);
+        assertArrayEquals(expected, result, 1e-12);
+    }
+
+    @Test
+    void derivative() {
+        for (boolean precompute : new boolean[] {false, true}) {
+            CubicSpline s = new CubicSpline(precompute);
+            s.init(0, 10, Y);
+            double eps = 1e-6;
+            for (double z = 0.3; z < 10; z += 0.7) {
+                double difference = (s.evaluate(z + eps) - s.evaluate(z - eps)) / (2 * eps);
+                assertEquals(difference, s.derivative(z), 1e-6);
+            }
+            // natural boundary condition of this implementation: y'0 = y'n = 0
+            assertEquals(0, s.derivative(0), 1e-12);
+            assertEquals(0, s.derivative(10), 1e-12);
+            assertEquals(0, s.derivative(11), 0);
+        }
+    }
+
+    @Test
+    void integrate() {
+        for (boolean precompute : new boolean[] {false, true}) {
+            CubicSpline s = new CubicSpline(precompute);
+            s.init(0, 10, Y);
+            // composite Simpson rule is exact for cubic polynomials on every interval
+            double sum = 0;
+            for (int i = 0; i < 5; i++) {
+                double l = 2 * i;
+                sum += (s.evaluate(l) + 4 * s.evaluate(l + 1) + s.evaluate(l + 2)) / 3;
+            }
+            assertEquals(sum, s.integrate(0, 10), 1e-12);
+            assertEquals(-sum, s.integrate(10, 0), 1e-12);
+            // constant continuation outside [a, b]
+            assertEquals(sum + 2 * Y[0] + 3 * Y[5], s.integrate(-2, 13), 1e-12);
+            assertEquals(Y[0], s.integrate(-2, -1), 1e-12);
+            assertEquals(2 * Y[5], s.integrate(11, 13), 1e-12);
+            assertEquals(s.integrate(0, 3.3) + s.integrate(3.3, 10), s.integrate(0, 10), 1e-12);
+            assertEquals(0, s.integrate(4.5, 4.5), 0);
+        }
+    }
+
+    @Test
+    void derivativeAndIntegralWithoutCoefficients() {
+        CubicSpline hermite = new CubicSpline();
+        hermite.init(0, 10, Y);
+        CubicSpline horner = new CubicSpline(true);
+        horner.init(0, 10, Y);
+        for (double z = -0.5; z < 10.6; z += 0.3) {
+            assertEquals(horner.derivative(z), hermite.derivative(z), 1e-12);
+            assertEquals(horner.integrate(0.7, z), hermite.integrate(0.7, z), 1e-12);
+            assertEquals(horner.integrate(z, 9.1), hermite.integrate(z, 9.1), 1e-12);
+        }
+    }
+
+    @Test
+    void computeDerivativesKeepsCoefficients() {
+        CubicSpline expected = new CubicSpline(true);
+        expected.init(0, 10, Y);
+        CubicSpline s = new CubicSpline(true);
+        s.init(0, 10, Y);
+        s.computeDerivatives();
+
+        double[] z = {-1, 0, 1.3, 4.5, 10, 12};
+        for (double v : z) {
+            assertEquals(expected.evaluate(v), s.evaluate(v), 1e-12);
+        }
+        double[] result = new double[z.length];
+        double[] reference = new double[z.length];
+        s.evaluate(z, result);
+        expected.evaluate(z, reference);
+        assertArrayEquals(reference, result, 1e-12);
+        assertEquals(expected.derivative(4.5), s.derivative(4.5), 1e-12);
+        assertEquals(expected.integrate(0, 10), s.integrate(0, 10), 1e-12);
+    }
+}
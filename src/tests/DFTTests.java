@@ -0,0 +1,86 @@
+package tests;
+
+import fourier.Complex;
+import fourier.ComplexArray;
+import fourier.DFT;
+import fourier.FFTPlan;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DFTTests {
+    private static void assertGoertzelMatchesFFT(int n) {
+        double[] v = FourierReference.signal(n, 0);
+        double[] copy = v.clone();
+        double[] expectedRe = v.clone();
+        double[] expectedIm = new double[n];
+        FFTPlan.forSize(n).forward(expectedRe, expectedIm);
+
+        int[] bins = {0, 1, n / 2, n - 1, n / 3};
+        double[] re = new double[bins.length];
+        double[] im = new double[bins.length];
+        DFT.dft(v, bins, re, im);
+        Complex[] c = DFT.dft(v, bins);
+        assertArrayEquals(copy, v, 0, "n = " + n);
+        for (int i = 0; i < bins.length; i++) {
+            String message = "n = " + n + ", bin " + bins[i];
+            assertEquals(expectedRe[bins[i]], re[i], 1e-12, message);
+            assertEquals(expectedIm[bins[i]], im[i], 1e-12, message);
+            assertEquals(re[i], c[i].getReal(), 0, message);
+            assertEquals(im[i], c[i].getImaginary(), 0, message);
+        }
+    }
+
+    @Test
+    void goertzel() {
+        for (int n : new int[] {2, 3, 8, 9, 64, 100, 101}) {
+            assertGoertzelMatchesFFT(n);
+        }
+    }
+
+    @Test
+    void goertzelRejectsInvalidBins() {
+        double[] v = FourierReference.signal(8, 0);
+        assertThrows(IllegalArgumentException.class, () -> DFT.dft(v, new int[] {8}));
+        assertThrows(IllegalArgumentException.class, () -> DFT.dft(v, new int[] {-1}));
+        assertThrows(IllegalArgumentException.class,
+                () -> DFT.dft(v, new int[] {0, 1}, new double[2], new double[1]));
+    }
+
+    @Test
+    void complexArray() {
+        for (int n : new int[] {1, 2, 7, 16, 30, 97}) {
+            double[] re = FourierReference.signal(n, 1);
+            double[] im = FourierReference.signal(n, 2);
+            ComplexArray v = new ComplexArray(re.clone(), im.clone());
+            ComplexArray result = DFT.dft(v);
+            assertArrayEquals(re, v.real(), 0, "n = " + n);
+            assertArrayEquals(im, v.imaginary(), 0, "n = " + n);
+
+            FFTPlan.forSize(n).forward(re, im);
+            assertArrayEquals(re, result.real(), 1e-12, "n = " + n);
+            assertArrayEquals(im, result.imaginary(), 1e-12, "n = " + n);
+            // bins 0 and n/2 explicitly
+            assertEquals(re[0], result.getReal(0), 1e-12);
+            assertEquals(im[n / 2], result.getImaginary(n / 2), 1e-12);
+        }
+    }
+
+    @Test
+    void realVector() {
+        for (int n : new int[] {1, 2, 5, 16, 99, 1000}) {
+            double[] v = FourierReference.signal(n, 0.5);
+            double[] copy = v.clone();
+            double[][] expected = FourierReference.dft(v, new double[n]);
+            Complex[] result = DFT.dft(v);
+            assertArrayEquals(copy, v, 0, "n = " + n);
+            assertEquals(n, result.length);
+            for (int k = 0; k < n; k++) {
+                assertEquals(expected[0][k], result[k].getReal(), 1e-12, "n = " + n + ", k = " + k);
+                assertEquals(expected[1][k], result[k].getImaginary(), 1e-12, "n = " + n + ", k = " + k);
+            }
+        }
+    }
+}
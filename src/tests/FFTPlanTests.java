@@ -0,0 +1,124 @@
+package tests;
+
+import fourier.FFTPlan;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FFTPlanTests {
+    private static final int[] POWERS_OF_TWO = {1, 2, 4, 16, 64, 1024};
+
+    // Bluestein
+    private static final int[] PRIMES = {11, 13, 17, 97, 101};
+
+    // mixed radix 2, 3, 5, 7
+    private static final int[] SMALL_FACTORS = {3, 6, 12, 15, 35, 49, 105, 840};
+
+    // small factors times a large prime, Bluestein as well
+    private static final int[] MIXED = {22, 26, 33, 66, 77, 202};
+
+    private static void assertForwardMatchesReference(int n) {
+        double[] re = FourierReference.signal(n, 0);
+        double[] im = FourierReference.signal(n, 1);
+        double[][] expected = FourierReference.dft(re, im);
+
+        FFTPlan.forSize(n).forward(re, im);
+        assertArrayEquals(expected[0], re, 1e-12, "n = " + n);
+        assertArrayEquals(expected[1], im, 1e-12, "n = " + n);
+    }
+
+    private static void assertInverseMatchesReference(int n) {
+        double[] re = FourierReference.signal(n, 2);
+        double[] im = FourierReference.signal(n, 3);
+        double[][] expected = FourierReference.inverseDft(re, im);
+
+        FFTPlan.forSize(n).inverse(re, im);
+        assertArrayEquals(expected[0], re, 1e-10, "n = " + n);
+        assertArrayEquals(expected[1], im, 1e-10, "n = " + n);
+    }
+
+    private static void assertRoundTrip(int n) {
+        double[] re = FourierReference.signal(n, 4);
+        double[] im = FourierReference.signal(n, 5);
+        FFTPlan plan = FFTPlan.forSize(n);
+        plan.forward(re, im);
+        plan.inverse(re, im);
+        assertArrayEquals(FourierReference.signal(n, 4), re, 1e-12, "n = " + n);
+        assertArrayEquals(FourierReference.signal(n, 5), im, 1e-12, "n = " + n);
+    }
+
+    private static void assertAll(int[] lengths) {
+        for (int n : lengths) {
+            assertEquals(n, FFTPlan.forSize(n).size());
+            assertForwardMatchesReference(n);
+            assertInverseMatchesReference(n);
+            assertRoundTrip(n);
+        }
+    }
+
+    @Test
+    void powersOfTwo() {
+        assertAll(POWERS_OF_TWO);
+    }
+
+    @Test
+    void primes() {
+        assertAll(PRIMES);
+    }
+
+    @Test
+    void smallFactors() {
+        assertAll(SMALL_FACTORS);
+    }
+
+    @Test
+    void mixedLengths() {
+        assertAll(MIXED);
+    }
+
+    @Test
+    void scaling() {
+        for (int n : new int[] {8, 12, 13, 22}) {
+            // forward transform of a constant is 1/n * n at bin 0
+            double[] re = new double[n];
+            double[] im = new double[n];
+            Arrays.fill(re, 1);
+            FFTPlan plan = FFTPlan.forSize(n);
+            plan.forward(re, im);
+            double[] delta = new double[n];
+            delta[0] = 1;
+            assertArrayEquals(delta, re, 1e-14, "n = " + n);
+            assertArrayEquals(new double[n], im, 1e-14, "n = " + n);
+
+            // the inverse isn't scaled
+            plan.inverse(re, im);
+            double[] ones = new double[n];
+            Arrays.fill(ones, 1);
+            assertArrayEquals(ones, re, 1e-14, "n = " + n);
+            assertArrayEquals(new double[n], im, 1e-14, "n = " + n);
+        }
+    }
+
+    @Test
+    void plansAreCached() {
+        FFTPlan plan = FFTPlan.forSize(32);
+        assertSame(plan, FFTPlan.forSize(32));
+        FFTPlan.clearCache();
+        FFTPlan fresh = FFTPlan.forSize(32);
+        assertTrue(plan != fresh);
+        assertSame(fresh, FFTPlan.forSize(32));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new FFTPlan(0));
+        assertThrows(IllegalArgumentException.class, () -> FFTPlan.forSize(8).forward(new double[8], new double[4]));
+        assertThrows(IllegalArgumentException.class, () -> FFTPlan.forSize(-4));
+    }
+}
@@ -0,0 +1,58 @@
+package tests;
+
+/**
+ * Test signals and a reference discrete Fourier transform for the tests of the fourier package. The reference
+ * evaluates the definition directly in O(n^2), with the angles 2 pi (j k mod n) / n reduced before the cos and sin.
+ */
+final class FourierReference {
+    private FourierReference() { }
+
+    /**
+     * Returns a deterministic test signal of length n, different phases give different signals.
+     */
+    static double[] signal(int n, double phase) {
+        double[] v = new double[n];
+        for (int j = 0; j < n; j++) {
+            v[j] = Math.sin(0.37 * j + phase) + 0.1 * (j % 5);
+        }
+        return v;
+    }
+
+    /**
+     * Forward transform with the factor 1/n like IFFT.fft: X_k = 1/n sum_j v_j exp(-2 pi i j k / n).
+     * @return the real parts in [0] and the imaginary parts in [1].
+     */
+    static double[][] dft(double[] re, double[] im) {
+        double[][] result = transform(re, im, -1);
+        int n = re.length;
+        for (int k = 0; k < n; k++) {
+            result[0][k] /= n;
+            result[1][k] /= n;
+        }
+        return result;
+    }
+
+    /**
+     * Inverse transform without scaling like IFFT.ifft: v_j = sum_k X_k exp(2 pi i j k / n).
+     * @return the real parts in [0] and the imaginary parts in [1].
+     */
+    static double[][] inverseDft(double[] re, double[] im) {
+        return transform(re, im, 1);
+    }
+
+    private static double[][] transform(double[] re, double[] im, int sign) {
+        int n = re.length;
+        double[] resultRe = new double[n];
+        double[] resultIm = new double[n];
+        for (int k = 0; k < n; k++) {
+            for (int j = 0; j < n; j++) {
+                double phi = sign * 2 * Math.PI * ((long) j * k % n) / n;
+                double c = Math.cos(phi);
+                double s = Math.sin(phi);
+                resultRe[k] += re[j] * c - im[j] * s;
+                resultIm[k] += re[j] * s + im[j] * c;
+            }
+        }
+        return new double[][] {resultRe, resultIm};
+    }
+}
@@ -0,0 +1,89 @@
+package tests;
+
+import fourier.Complex;
+import fourier.IFFT;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IFFTTests {
+    private static final int[] LENGTHS = {1, 2, 4, 8, 32, 256};
+
+    private static Complex[] complex(double[] re, double[] im) {
+        Complex[] c = new Complex[re.length];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = new Complex(re[i], im[i]);
+        }
+        return c;
+    }
+
+    private static void assertComplexEquals(double[][] expected, Complex[] c, double delta, String message) {
+        assertEquals(expected[0].length, c.length);
+        for (int i = 0; i < c.length; i++) {
+            assertEquals(expected[0][i], c[i].getReal(), delta, message + ", i = " + i);
+            assertEquals(expected[1][i], c[i].getImaginary(), delta, message + ", i = " + i);
+        }
+    }
+
+    @Test
+    void primitiveMatchesReference() {
+        for (int n : LENGTHS) {
+            double[] re = FourierReference.signal(n, 0);
+            double[] im = FourierReference.signal(n, 1);
+            double[][] expected = FourierReference.dft(re, im);
+            IFFT.fft(re, im);
+            assertArrayEquals(expected[0], re, 1e-12, "fft, n = " + n);
+            assertArrayEquals(expected[1], im, 1e-12, "fft, n = " + n);
+
+            double[][] inverse = FourierReference.inverseDft(re, im);
+            IFFT.ifft(re, im);
+            assertArrayEquals(inverse[0], re, 1e-12, "ifft, n = " + n);
+            assertArrayEquals(inverse[1], im, 1e-12, "ifft, n = " + n);
+            assertArrayEquals(FourierReference.signal(n, 0), re, 1e-12, "round trip, n = " + n);
+            assertArrayEquals(FourierReference.signal(n, 1), im, 1e-12, "round trip, n = " + n);
+        }
+    }
+
+    @Test
+    void complexMatchesReference() {
+        for (int n : LENGTHS) {
+            double[] re = FourierReference.signal(n, 2);
+            double[] im = FourierReference.signal(n, 3);
+            Complex[] c = complex(re, im);
+
+            Complex[] transformed = IFFT.fft(c);
+            assertComplexEquals(FourierReference.dft(re, im), transformed, 1e-12, "fft, n = " + n);
+            assertComplexEquals(FourierReference.inverseDft(re, im), IFFT.ifft(c), 1e-12, "ifft, n = " + n);
+            assertComplexEquals(new double[][] {re, im}, IFFT.ifft(transformed), 1e-12, "round trip, n = " + n);
+
+            // fft_helper omits the factor 1/n
+            double[][] unscaled = FourierReference.dft(re, im);
+            for (int k = 0; k < n; k++) {
+                unscaled[0][k] *= n;
+                unscaled[1][k] *= n;
+            }
+            assertComplexEquals(unscaled, IFFT.fft_helper(c), 1e-11, "fft_helper, n = " + n);
+        }
+    }
+
+    @Test
+    void complexInputIsNotModified() {
+        double[] re = FourierReference.signal(16, 4);
+        double[] im = FourierReference.signal(16, 5);
+        Complex[] c = complex(re, im);
+        IFFT.ifft(c);
+        assertComplexEquals(new double[][] {re, im}, c, 0, "ifft");
+        IFFT.fft(c);
+        assertComplexEquals(new double[][] {re, im}, c, 0, "fft");
+        IFFT.fft_helper(c);
+        assertComplexEquals(new double[][] {re, im}, c, 0, "fft_helper");
+    }
+
+    @Test
+    void rejectsInvalidLengths() {
+        assertThrows(IllegalArgumentException.class, () -> IFFT.fft(new double[4], new double[8]));
+        assertThrows(IllegalArgumentException.class, () -> IFFT.ifft(new double[2], new double[3]));
+    }
+}
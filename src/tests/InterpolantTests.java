@@ -0,0 +1,61 @@
+package tests;
+
+import interpolation.CubicSpline;
+import interpolation.Interpolant;
+import interpolation.NewtonPolynomial;
+import interpolation.PiecewiseLinear;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class InterpolantTests {
+    @Test
+    void fit() {
+        double[] y = {1, 10, 5, -1, 0, 11};
+        Interpolant f = Interpolant.fit(CubicSpline::new, 0, 10, y);
+        CubicSpline s = new CubicSpline();
+        s.init(0, 10, y);
+        // the values are copied
+        y[2] = 100;
+        for (double z = -1; z < 11; z += 0.25) {
+            assertEquals(s.evaluate(z), f.evaluate(z), 0);
+        }
+    }
+
+    @Test
+    void fitNonUniform() {
+        double[] x = {0, 0.5, 2, 2.25, 4};
+        double[] y = {1, -1, 3, 0, 2};
+        Interpolant linear = Interpolant.fit(PiecewiseLinear::new, x, y);
+        PiecewiseLinear expectedLinear = new PiecewiseLinear();
+        expectedLinear.init(x, y);
+        Interpolant newton = Interpolant.fit(NewtonPolynomial::new, x, y);
+        NewtonPolynomial expectedNewton = new NewtonPolynomial();
+        expectedNewton.init(x, y);
+        for (double z = -0.5; z < 4.5; z += 0.125) {
+            assertEquals(expectedLinear.evaluate(z), linear.evaluate(z), 0);
+            assertEquals(expectedNewton.evaluate(z), newton.evaluate(z), 0);
+        }
+        assertEquals(3, linear.evaluate(2), 0);
+    }
+
+    @Test
+    void concurrentEvaluation() {
+        double[] y = new double[1000];
+        for (int i = 0; i < y.length; i++) {
+            y[i] = Math.sin(i * 0.01);
+        }
+        Interpolant f = Interpolant.fit(CubicSpline::new, 0, 1, y);
+        double[] expected = new double[10000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = f.evaluate(i / 9999.0);
+        }
+        double[] result = new double[expected.length];
+        IntStream.range(0, expected.length).parallel().forEach(i -> result[i] = f.evaluate(i / 9999.0));
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], result[i], 0);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package tests;
+
+import interpolation.CubicSpline;
+import interpolation.InterpolationMethod2D;
+import interpolation.PiecewiseLinear;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class InterpolationMethod2DTests {
+    @Test
+    void parallelMatchesSequential() {
+        double[] x = {0, 1, 2, 3, 4};
+        double[] y = {0, 0.5, 1, 1.5, 2, 2.5};
+        double[][] z = new double[x.length][y.length];
+        for (int i = 0; i < x.length; i++) {
+            for (int j = 0; j < y.length; j++) {
+                z[i][j] = Math.sin(x[i]) * Math.cos(y[j]);
+            }
+        }
+        double[] s = new double[37];
+        double[] t = new double[23];
+        for (int i = 0; i < s.length; i++) {
+            s[i] = 4.0 * i / (s.length - 1);
+        }
+        for (int j = 0; j < t.length; j++) {
+            t[j] = 2.5 * j / (t.length - 1);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            InterpolationMethod2D sequential = new InterpolationMethod2D(new PiecewiseLinear());
+            InterpolationMethod2D parallel = new InterpolationMethod2D(PiecewiseLinear::new, pool, 16);
+            sequential.init(x, y, z);
+            parallel.init(x, y, z);
+            double[][] expected = sequential.evaluate(s, t);
+            double[][] result = parallel.evaluate(s, t);
+            for (int i = 0; i < s.length; i++) {
+                assertArrayEquals(expected[i], result[i], 1e-15);
+            }
+
+            sequential = new InterpolationMethod2D(new CubicSpline());
+            parallel = new InterpolationMethod2D(CubicSpline::new, pool, 16);
+            sequential.init(x, y, z);
+            parallel.init(x, y, z);
+            expected = sequential.evaluate(s, t);
+            result = parallel.evaluate(s, t);
+            for (int i = 0; i < s.length; i++) {
+                assertArrayEquals(expected[i], result[i], 1e-12);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Subclasses of CubicSpline get no series fitter, so InterpolationMethod2D interpolates one line after the other.
+     */
+    private static final class LineByLine extends CubicSpline {
+        LineByLine(boolean precomputeCoefficients) {
+            super(precomputeCoefficients);
+        }
+    }
+
+    /**
+     * Cubic spline shifted by 1, which InterpolationMethod2D must not replace with the fitter of CubicSpline.
+     */
+    private static final class Shifted extends CubicSpline {
+        @Override
+        protected double evaluate(double z, int i) {
+            return super.evaluate(z, i) + 1;
+        }
+    }
+
+    private static void assertSeriesMatchesLines(int m, int n) {
+        double[] x = new double[m];
+        double[] y = new double[n];
+        for (int i = 0; i < m; i++) {
+            x[i] = 0.5 * i;
+        }
+        for (int j = 0; j < n; j++) {
+            y[j] = -1 + 0.75 * j;
+        }
+        double[][] z = new double[m][n];
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                z[i][j] = Math.exp(0.3 * x[i]) * Math.sin(y[j] + i);
+            }
+        }
+        double[] s = new double[19];
+        double[] t = new double[11];
+        for (int i = 0; i < s.length; i++) {
+            s[i] = -0.2 + (x[m - 1] + 0.4) * i / (s.length - 1);
+        }
+        for (int j = 0; j < t.length; j++) {
+            t[j] = y[0] + (y[n - 1] - y[0]) * j / (t.length - 1);
+        }
+
+        InterpolationMethod2D lines = new InterpolationMethod2D(new LineByLine(false));
+        lines.init(x, y, z);
+        double[][] expected = lines.evaluate(s, t);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            InterpolationMethod2D[] series = {
+                    new InterpolationMethod2D(new CubicSpline()),
+                    new InterpolationMethod2D(new CubicSpline(true)),
+                    new InterpolationMethod2D(() -> new CubicSpline(true), pool, 8),
+            };
+            for (InterpolationMethod2D method : series) {
+                method.init(x, y, z);
+                double[][] result = method.evaluate(s, t);
+                for (int i = 0; i < s.length; i++) {
+                    assertArrayEquals(expected[i], result[i], 1e-12);
+                }
+            }
+            InterpolationMethod2D parallelLines = new InterpolationMethod2D(() -> new LineByLine(true), pool, 8);
+            parallelLines.init(x, y, z);
+            double[][] result = parallelLines.evaluate(s, t);
+            for (int i = 0; i < s.length; i++) {
+                assertArrayEquals(expected[i], result[i], 1e-12);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // the rows are shifted by 1, and the columns through them once more
+        InterpolationMethod2D shifted = new InterpolationMethod2D(new Shifted());
+        shifted.init(x, y, z);
+        double[][] result = shifted.evaluate(s, t);
+        for (int i = 0; i < s.length; i++) {
+            for (int j = 0; j < t.length; j++) {
+                assertEquals(expected[i][j] + 2, result[i][j], 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void seriesMatchesLineByLine() {
+        assertSeriesMatchesLines(6, 5);
+        assertSeriesMatchesLines(3, 7);
+        assertSeriesMatchesLines(8, 3);
+        assertSeriesMatchesLines(3, 3);
+    }
+}
@@ -0,0 +1,50 @@
+package tests;
+
+import org.junit.jupiter.api.Test;
+import util.LruCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LruCacheTests {
+    @Test
+    void evictsLeastRecentlyUsed() {
+        List<Integer> computed = new ArrayList<>();
+        LruCache<Integer, String> cache = new LruCache<>(2);
+        Function<Integer, String> factory = k -> {
+            computed.add(k);
+            return "v" + k;
+        };
+        String one = cache.get(1, factory);
+        cache.get(2, factory);
+        assertSame(one, cache.get(1, factory));
+        // 2 is the least recently used entry now
+        cache.get(3, factory);
+        assertEquals(2, cache.size());
+        assertSame(one, cache.get(1, factory));
+        cache.get(2, factory);
+        assertEquals(List.of(1, 2, 3, 2), computed);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        cache.get(1, factory);
+        assertEquals(5, computed.size());
+    }
+
+    @Test
+    void replacesUnusableValues() {
+        LruCache<String, int[]> cache = new LruCache<>(4);
+        int[] short3 = cache.get("a", v -> v.length >= 3, k -> new int[3]);
+        assertSame(short3, cache.get("a", v -> v.length >= 2, k -> new int[2]));
+        int[] long5 = cache.get("a", v -> v.length >= 5, k -> new int[5]);
+        assertEquals(5, long5.length);
+        assertSame(long5, cache.get("a", k -> new int[1]));
+        assertEquals(1, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(0));
+    }
+}
@@ -0,0 +1,60 @@
+package tests;
+
+import fourier.Complex;
+import fourier.MutableComplex;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MutableComplexTests {
+    private static void assertComplex(Complex expected, MutableComplex actual, String message) {
+        assertEquals(expected.getReal(), actual.getReal(), 1e-15, message);
+        assertEquals(expected.getImaginary(), actual.getImaginary(), 1e-15, message);
+        assertEquals(expected.getAbs(), actual.getAbs(), 1e-15, message);
+    }
+
+    @Test
+    void matchesComplex() {
+        double[] re = FourierReference.signal(20, 0.5);
+        double[] im = FourierReference.signal(20, 1.5);
+        Complex expected = new Complex(0.25, -1);
+        MutableComplex z = new MutableComplex(0.25, -1);
+        for (int i = 0; i + 1 < re.length; i += 2) {
+            Complex a = new Complex(re[i], im[i]);
+            Complex b = new Complex(re[i + 1], im[i + 1]);
+            String message = "i = " + i;
+
+            expected = expected.add(a);
+            assertSame(z, z.add(re[i], im[i]));
+            assertComplex(expected, z, message + ", add");
+
+            expected = expected.mul(b);
+            assertSame(z, z.mul(re[i + 1], im[i + 1]));
+            assertComplex(expected, z, message + ", mul");
+
+            expected = expected.add(a.mul(b));
+            assertSame(z, z.addProduct(re[i], im[i], re[i + 1], im[i + 1]));
+            assertComplex(expected, z, message + ", addProduct");
+
+            expected = expected.mul(new Complex(0.5));
+            assertSame(z, z.scale(0.5));
+            assertComplex(expected, z, message + ", scale");
+
+            expected = expected.add(b);
+            assertSame(z, z.add(b));
+            assertComplex(expected, z, message + ", add(Complex)");
+        }
+        Complex c = z.toComplex();
+        assertEquals(z.getReal(), c.getReal(), 0);
+        assertEquals(z.getImaginary(), c.getImaginary(), 0);
+        assertComplex(new Complex(3, 4), z.set(3, 4), "set");
+        assertEquals(5, z.getAbs(), 0);
+    }
+
+    @Test
+    void defaultIsZero() {
+        assertComplex(new Complex(), new MutableComplex(), "default");
+        assertComplex(new Complex(-2, 0), new MutableComplex().addProduct(1, 1, -1, 1), "(1 + i)(-1 + i)");
+    }
+}
@@ -3,6 +3,7 @@ package tests;
 import interpolation.*;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class NearestNeighborTests {
@@ -42,4 +43,27 @@ public class NearestNeighborTests {
         n.init(-3.4, -1.2999999999999998, new double[]{1.0, 3.0, 4.0, 1.0, 1.0, -1.0});
         assertEquals(-1.0, n.evaluate(-1.2999999999999998));
     }
+
+    @Test
+    void bulkEvaluate() {
+        NearestNeighbor n = new NearestNeighbor();
+        n.init(-2.6, 4.6, new double[]{1.0, 1.0, 2.0, 1.0, 2.0, 4.0});
+        double[] z = {-100, -2.6, 0.3, 1.7, 4.64821924770869, 6};
+        double[] result = new double[z.length + 2];
+        n.evaluate(z, 1, result, 2, 4);
+        assertArrayEquals(new double[]{0.0, 0.0, 1.0, 2.0, 1.0, 4.0, 0.0, 0.0}, result);
+    }
+
+    @Test
+    void nonUniformGrid() {
+        NearestNeighbor n = new NearestNeighbor();
+        n.init(new double[]{-1.0, 0.0, 0.5, 4.0, 4.1}, new double[]{1.0, 2.0, 3.0, 4.0, 5.0});
+        assertEquals(1.0, n.evaluate(-7));
+        assertEquals(2.0, n.evaluate(-0.5));
+        assertEquals(3.0, n.evaluate(0.25));
+        assertEquals(3.0, n.evaluate(2.2));
+        assertEquals(4.0, n.evaluate(2.25));
+        assertEquals(5.0, n.evaluate(4.06));
+        assertEquals(5.0, n.evaluate(100));
+    }
 }
@@ -0,0 +1,110 @@
+package tests;
+
+import interpolation.NewtonPolynomial;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NewtonPolynomialTests {
+    @Test
+    void newtonTest() {
+        NewtonPolynomial p = new NewtonPolynomial();
+        p.init(0, 2, new double[]{3, 0, 1});
+        assertEquals(28, p.evaluate(5), 1e-12);
+    }
+
+    @Test
+    void addPoint() {
+        double[] x = {0.5, -1, 2, 0.25, 1.5, -0.3};
+        double[] y = {1, -2, 0.5, 3, 4, -1};
+        NewtonPolynomial incremental = new NewtonPolynomial();
+        incremental.init(0, 1, new double[]{2, 1});
+        NewtonPolynomial fresh = new NewtonPolynomial();
+        double[] allX = {0, 1, 0, 0, 0, 0, 0, 0};
+        double[] allY = {2, 1, 0, 0, 0, 0, 0, 0};
+        for (int i = 0; i < x.length; i++) {
+            incremental.addPoint(x[i], y[i]);
+            allX[i + 2] = x[i];
+            allY[i + 2] = y[i];
+
+            double[] sortedX = Arrays.copyOf(allX, i + 3);
+            double[] sortedY = new double[i + 3];
+            Integer[] order = new Integer[i + 3];
+            for (int j = 0; j < order.length; j++) {
+                order[j] = j;
+            }
+            Arrays.sort(order, (u, v) -> Double.compare(allX[u], allX[v]));
+            for (int j = 0; j < order.length; j++) {
+                sortedX[j] = allX[order[j]];
+                sortedY[j] = allY[order[j]];
+            }
+            fresh.init(sortedX, sortedY);
+            for (double z = -1.2; z < 2.2; z += 0.3) {
+                assertEquals(fresh.evaluate(z), incremental.evaluate(z), 1e-9);
+            }
+        }
+        assertEquals(-1, incremental.evaluate(-0.3), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> incremental.addPoint(2, 0));
+    }
+
+    /**
+     * Exposes the interval lookup of the grid.
+     */
+    private static final class Lookup extends NewtonPolynomial {
+        int interval(double z) {
+            return findInterval(z);
+        }
+    }
+
+    @Test
+    void addPointAfterNonUniformInit() {
+        double[] x = {-1, -0.2, 0.3, 1.5};
+        double[] y = {2, 0.5, -1, 3};
+        Lookup p = new Lookup();
+        p.init(x, y);
+        assertEquals(2, p.interval(0.4));
+        p.addPoint(0.9, 1);
+        p.addPoint(-2, 0);
+        assertThrows(IllegalStateException.class, () -> p.interval(0.4));
+
+        NewtonPolynomial fresh = new NewtonPolynomial();
+        fresh.init(new double[]{-2, -1, -0.2, 0.3, 0.9, 1.5}, new double[]{0, 2, 0.5, -1, 1, 3});
+        double[] z = new double[30];
+        for (int i = 0; i < z.length; i++) {
+            z[i] = -2.5 + 0.15 * i;
+        }
+        double[] expected = new double[z.length];
+        double[] sorted = new double[z.length];
+        double[] bulk = new double[z.length];
+        fresh.evaluateSorted(z, 0, expected, 0, z.length);
+        p.evaluateSorted(z, 0, sorted, 0, z.length);
+        p.evaluate(z, bulk);
+        assertArrayEquals(expected, sorted, 1e-10);
+        assertArrayEquals(expected, bulk, 1e-10);
+        for (int i = 0; i < z.length; i++) {
+            assertEquals(expected[i], p.evaluate(z[i]), 1e-10);
+        }
+
+        // init makes the grid sorted again
+        p.init(x, y);
+        assertEquals(2, p.interval(0.4));
+    }
+
+    @Test
+    void addPointToEmptyPolynomial() {
+        NewtonPolynomial p = new NewtonPolynomial();
+        p.addPoint(1, 2);
+        double[] z = {-1, 0.5, 1, 4};
+        double[] result = new double[z.length];
+        p.evaluateSorted(z, 0, result, 0, z.length);
+        assertArrayEquals(new double[]{2, 2, 2, 2}, result, 0);
+
+        p.addPoint(3, 6);
+        p.evaluateSorted(z, 0, result, 0, z.length);
+        assertArrayEquals(new double[]{-2, 1, 2, 8}, result, 1e-14);
+    }
+}
@@ -0,0 +1,70 @@
+package tests;
+
+import fourier.IFFT;
+import fourier.ParallelFFT;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParallelFFTTests {
+    private static void assertMatchesIFFT(ParallelFFT fft, int n) {
+        double[] re = FourierReference.signal(n, 0);
+        double[] im = FourierReference.signal(n, 1);
+        double[] expectedRe = re.clone();
+        double[] expectedIm = im.clone();
+
+        IFFT.fft(expectedRe, expectedIm);
+        fft.fft(re, im);
+        assertArrayEquals(expectedRe, re, 1e-12, "fft, n = " + n);
+        assertArrayEquals(expectedIm, im, 1e-12, "fft, n = " + n);
+
+        IFFT.ifft(expectedRe, expectedIm);
+        fft.ifft(re, im);
+        assertArrayEquals(expectedRe, re, 1e-12, "ifft, n = " + n);
+        assertArrayEquals(expectedIm, im, 1e-12, "ifft, n = " + n);
+    }
+
+    @Test
+    void forkJoinMatchesIFFT() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // with threshold 4, every permutation, block, butterfly and scaling task is split
+            ParallelFFT fft = new ParallelFFT(pool, 4);
+            for (int n : new int[] {8, 64, 1024}) {
+                assertMatchesIFFT(fft, n);
+            }
+            // odd threshold and lengths at the threshold
+            fft = new ParallelFFT(pool, 5);
+            for (int n : new int[] {4, 8, 256}) {
+                assertMatchesIFFT(fft, n);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void sequentialFallback() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ParallelFFT fft = new ParallelFFT(pool, 2);
+            for (int n : new int[] {1, 2, 6, 13, 48, 100}) {
+                assertMatchesIFFT(fft, n);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertMatchesIFFT(new ParallelFFT(), 96);
+    }
+
+    @Test
+    void rejectsSmallThreshold() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        assertThrows(IllegalArgumentException.class, () -> new ParallelFFT(pool, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelFFT(pool, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelFFT(pool, -8));
+    }
+}
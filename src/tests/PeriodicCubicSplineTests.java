@@ -0,0 +1,28 @@
+package tests;
+
+import interpolation.PeriodicCubicSpline;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PeriodicCubicSplineTests {
+    @Test
+    void periodicFunction() {
+        int n = 64;
+        double[] y = new double[n + 1];
+        for (int i = 0; i <= n; i++) {
+            y[i] = Math.sin(2 * Math.PI * i / n);
+        }
+        y[n] = y[0];
+        PeriodicCubicSpline s = new PeriodicCubicSpline();
+        s.init(0, 1, y);
+        for (double z = 0; z <= 1; z += 0.013) {
+            assertEquals(Math.sin(2 * Math.PI * z), s.evaluate(z), 1e-5);
+            assertEquals(s.evaluate(z), s.evaluate(z + 3), 1e-12);
+            assertEquals(s.evaluate(z), s.evaluate(z - 2), 1e-12);
+        }
+        // the derivative is continuous at the ends
+        double eps = 1e-6;
+        assertEquals((s.evaluate(eps) - s.evaluate(0)) / eps, (s.evaluate(1) - s.evaluate(1 - eps)) / eps, 1e-4);
+    }
+}
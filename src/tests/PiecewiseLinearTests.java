@@ -1,8 +1,10 @@
 package tests;
 
+import interpolation.InterpolationMethod;
 import interpolation.PiecewiseLinear;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class PiecewiseLinearTests {
@@ -29,4 +31,46 @@ public class PiecewiseLinearTests {
         assertEquals(-3.021699819774409, l.evaluate(-4.536954792070074), 0.001);
         assertEquals(5.0, l.evaluate(-3.651599788142515), 0.001);
     }
+
+    @Test
+    void bulkEvaluate() {
+        PiecewiseLinear l = new PiecewiseLinear();
+        l.init(0.5999999999999996, 4.699999999999999, new double[]{4.0, 4.0, 3.0, 0.0, 3.0, -2.0});
+        double[] z = {-1, 3.0847949562215975, 4.879468962378141, 0.6, 2.2};
+        double[] result = new double[z.length];
+        l.evaluate(z, result);
+        for (int i = 0; i < z.length; i++) {
+            assertEquals(l.evaluate(z[i]), result[i], 1e-12);
+        }
+    }
+
+    @Test
+    void nonUniformGrid() {
+        PiecewiseLinear l = new PiecewiseLinear();
+        l.init(new double[]{0.0, 0.1, 0.2, 3.0, 10.0}, new double[]{0.0, 1.0, 0.0, 7.0, 0.0});
+        assertEquals(0.0, l.evaluate(-1), 1e-12);
+        assertEquals(0.5, l.evaluate(0.05), 1e-12);
+        assertEquals(0.5, l.evaluate(0.15), 1e-12);
+        assertEquals(2.5, l.evaluate(1.2), 1e-12);
+        assertEquals(6.0, l.evaluate(4.0), 1e-12);
+        assertEquals(0.0, l.evaluate(10.5), 1e-12);
+    }
+
+    @Test
+    void cursorSweep() {
+        PiecewiseLinear l = new PiecewiseLinear();
+        l.init(new double[]{0.0, 0.1, 0.2, 3.0, 10.0}, new double[]{0.0, 1.0, 0.0, 7.0, 0.0});
+        InterpolationMethod.Cursor cursor = l.cursor();
+        double[] z = {-1, 0.05, 0.15, 1.2, 4.0, 10.5, 0.15, -1};
+        for (double zk : z) {
+            assertEquals(l.evaluate(zk), cursor.evaluate(zk), 1e-12);
+        }
+        assertEquals(0, cursor.getInterval());
+
+        double[] result = new double[z.length];
+        l.evaluateSorted(z, 0, result, 0, z.length);
+        for (int i = 0; i < z.length; i++) {
+            assertEquals(l.evaluate(z[i]), result[i], 1e-12);
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package tests;
+
+import fourier.Complex;
+import fourier.ComplexArray;
+import fourier.FFTPlan;
+import fourier.RealFFT;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RealFFTTests {
+    private static final int[] EVEN = {2, 4, 6, 8, 12, 16, 22, 64, 100};
+    private static final int[] ODD = {1, 3, 7, 9, 13, 15, 45};
+
+    private static void assertMatchesComplexFFT(int n) {
+        double[] x = FourierReference.signal(n, 0);
+        double[] copy = x.clone();
+        int bins = n / 2 + 1;
+
+        double[] expectedRe = x.clone();
+        double[] expectedIm = new double[n];
+        FFTPlan.forSize(n).forward(expectedRe, expectedIm);
+
+        double[] re = new double[bins];
+        double[] im = new double[bins];
+        RealFFT.rfft(x, re, im);
+        assertArrayEquals(copy, x, 0, "n = " + n);
+        for (int k = 0; k < bins; k++) {
+            assertEquals(expectedRe[k], re[k], 1e-13, "n = " + n + ", k = " + k);
+            assertEquals(expectedIm[k], im[k], 1e-13, "n = " + n + ", k = " + k);
+        }
+
+        Complex[] c = RealFFT.rfft(x);
+        ComplexArray out = new ComplexArray(bins);
+        RealFFT.rfft(x, out);
+        assertEquals(bins, c.length);
+        for (int k = 0; k < bins; k++) {
+            assertEquals(re[k], c[k].getReal(), 0);
+            assertEquals(im[k], c[k].getImaginary(), 0);
+            assertEquals(re[k], out.getReal(k), 0);
+            assertEquals(im[k], out.getImaginary(k), 0);
+        }
+        assertArrayEquals(copy, x, 0, "n = " + n);
+    }
+
+    private static void assertRoundTrip(int n) {
+        double[] x = FourierReference.signal(n, 1);
+        int bins = n / 2 + 1;
+        double[] re = new double[bins];
+        double[] im = new double[bins];
+        RealFFT.rfft(x, re, im);
+        double[] copyRe = re.clone();
+        double[] copyIm = im.clone();
+
+        double[] result = new double[n];
+        RealFFT.irfft(re, im, result);
+        assertArrayEquals(x, result, 1e-12, "n = " + n);
+        assertArrayEquals(copyRe, re, 0, "n = " + n);
+        assertArrayEquals(copyIm, im, 0, "n = " + n);
+
+        Complex[] c = RealFFT.rfft(x);
+        assertArrayEquals(x, RealFFT.irfft(c, n), 1e-12, "n = " + n);
+    }
+
+    @Test
+    void evenLengths() {
+        for (int n : EVEN) {
+            assertMatchesComplexFFT(n);
+            assertRoundTrip(n);
+        }
+    }
+
+    @Test
+    void oddLengths() {
+        for (int n : ODD) {
+            assertMatchesComplexFFT(n);
+            assertRoundTrip(n);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package tests;
+
+import interpolation.CubicSpline;
+import interpolation.InterpolationMethod2D;
+import interpolation.NewtonPolynomial;
+import interpolation.Resampler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ResamplerTests {
+    private static double[] grid(int count, double a, double b) {
+        double[] x = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = a + (b - a) * i / (count - 1);
+        }
+        return x;
+    }
+
+    @Test
+    void matchesInterpolationMethod2D() {
+        double[] x = grid(7, 0, 3);
+        double[] y = grid(9, -1, 1);
+        double[][] z = new double[x.length][y.length];
+        for (int i = 0; i < x.length; i++) {
+            for (int j = 0; j < y.length; j++) {
+                z[i][j] = Math.exp(-x[i]) * Math.sin(3 * y[j]) + x[i] * y[j];
+            }
+        }
+        double[] s = grid(20, -0.2, 3.1);
+        double[] t = grid(15, -1, 1);
+
+        InterpolationMethod2D cubic = new InterpolationMethod2D(new CubicSpline());
+        cubic.init(x, y, z);
+        double[][] expected = cubic.evaluate(s, t);
+        double[][] result = new Resampler(CubicSpline::new, 4, 0).evaluate(x, y, z, s, t);
+        for (int i = 0; i < s.length; i++) {
+            assertArrayEquals(expected[i], result[i], 1e-12);
+        }
+
+        InterpolationMethod2D newton = new InterpolationMethod2D(new NewtonPolynomial());
+        newton.init(x, y, z);
+        expected = newton.evaluate(s, t);
+        result = new Resampler(NewtonPolynomial::new).evaluate(x, y, z, s, t);
+        for (int i = 0; i < s.length; i++) {
+            assertArrayEquals(expected[i], result[i], 1e-9);
+        }
+    }
+
+    @Test
+    void weightsAreCached() {
+        Resampler resampler = new Resampler(CubicSpline::new, 2, 1e-12);
+        double[] t = grid(10, 0, 1);
+        assertSame(resampler.weights(0, 1, 30, t), resampler.weights(0, 1, 30, t.clone()));
+    }
+}
@@ -0,0 +1,99 @@
+package tests;
+
+import fourier.RealFFT;
+import fourier.STFT;
+import fourier.WindowFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class STFTTests {
+    /**
+     * Pushes the signal through an STFT, partly sample by sample and partly in blocks, and compares every frame with
+     * rfft of the windowed slice.
+     */
+    private static void assertFramesMatchRFFT(int windowSize, int hop, WindowFunction windowFunction) {
+        double[] x = FourierReference.signal(300, 0);
+        List<double[]> frames = new ArrayList<>();
+        STFT stft = new STFT(windowSize, hop, windowFunction, (frame, re, im) -> {
+            assertEquals(frames.size(), (int) frame);
+            double[] copy = Arrays.copyOf(re, 2 * re.length);
+            System.arraycopy(im, 0, copy, re.length, im.length);
+            frames.add(copy);
+        });
+        for (int i = 0; i < 37; i++) {
+            stft.push(x[i]);
+        }
+        stft.push(x, 37, 200);
+        stft.push(x, 237, x.length - 237);
+
+        int expectedFrames = (x.length - windowSize) / hop + 1;
+        assertEquals(expectedFrames, frames.size());
+        assertEquals(expectedFrames, (int) stft.getFrameCount());
+
+        double[] window = windowFunction.coefficients(windowSize);
+        int bins = windowSize / 2 + 1;
+        for (int f = 0; f < expectedFrames; f++) {
+            double[] slice = new double[windowSize];
+            for (int j = 0; j < windowSize; j++) {
+                slice[j] = x[f * hop + j] * window[j];
+            }
+            double[] re = new double[bins];
+            double[] im = new double[bins];
+            RealFFT.rfft(slice, re, im);
+            String message = "window " + windowSize + ", hop " + hop + ", frame " + f;
+            assertArrayEquals(re, Arrays.copyOfRange(frames.get(f), 0, bins), 1e-13, message);
+            assertArrayEquals(im, Arrays.copyOfRange(frames.get(f), bins, 2 * bins), 1e-13, message);
+        }
+    }
+
+    @Test
+    void hopShorterThanWindow() {
+        assertFramesMatchRFFT(16, 5, WindowFunction.HANN);
+        assertFramesMatchRFFT(15, 4, WindowFunction.HAMMING);
+        assertFramesMatchRFFT(32, 1, WindowFunction.BLACKMAN);
+    }
+
+    @Test
+    void hopLongerThanWindow() {
+        assertFramesMatchRFFT(16, 23, WindowFunction.HANN);
+        assertFramesMatchRFFT(9, 10, WindowFunction.RECTANGULAR);
+        assertFramesMatchRFFT(8, 8, WindowFunction.BLACKMAN);
+    }
+
+    @Test
+    void reset() {
+        List<Long> frames = new ArrayList<>();
+        STFT stft = new STFT(8, 4, WindowFunction.HANN, (frame, re, im) -> frames.add(frame));
+        stft.push(FourierReference.signal(10, 1), 0, 10);
+        assertEquals(1, frames.size());
+        stft.reset();
+        assertEquals(0, (int) stft.getFrameCount());
+        stft.push(FourierReference.signal(7, 1), 0, 7);
+        assertEquals(1, frames.size());
+        stft.push(1.0);
+        assertEquals(0, (int) (long) frames.get(1));
+        assertThrows(IllegalArgumentException.class, () -> new STFT(8, 0, WindowFunction.HANN, (f, re, im) -> { }));
+    }
+
+    @Test
+    void windows() {
+        int n = 8;
+        double[] ones = new double[n];
+        Arrays.fill(ones, 1);
+        assertArrayEquals(ones, WindowFunction.RECTANGULAR.coefficients(n), 0);
+        // periodic windows: minimum at 0, maximum at n/2
+        double[] hann = WindowFunction.HANN.coefficients(n);
+        assertEquals(0, hann[0], 1e-15);
+        assertEquals(1, hann[n / 2], 1e-15);
+        assertEquals(hann[1], hann[n - 1], 1e-15);
+        assertEquals(0.08, WindowFunction.HAMMING.coefficients(n)[0], 1e-15);
+        assertEquals(1, WindowFunction.BLACKMAN.coefficients(n)[n / 2], 1e-15);
+    }
+}
@@ -0,0 +1,67 @@
+package tests;
+
+import fourier.Complex;
+import fourier.DFT;
+import fourier.SlidingDFT;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SlidingDFTTests {
+    /**
+     * Compares the bins with DFT.dft of the current window, where sample j of the window (oldest first) is tapered
+     * with r^(n - 1 - j).
+     */
+    private static void assertSlidingMatchesDFT(int n, double damping) {
+        int[] bins = {0, 1, n / 2, n - 1};
+        SlidingDFT sliding = damping == 1 ? new SlidingDFT(n, bins) : new SlidingDFT(n, bins, damping);
+        double[] x = FourierReference.signal(5 * n + 5, 2);
+        int pushed = 0;
+        // more than one wrap of the ring buffer before the first comparison
+        for (int length : new int[] {n + 3, 1, 2 * n - 1, n, n + 2}) {
+            sliding.push(x, pushed, length);
+            pushed += length;
+
+            double[] window = new double[n];
+            for (int j = 0; j < n; j++) {
+                window[j] = x[pushed - n + j] * Math.pow(damping, n - 1 - j);
+            }
+            Complex[] expected = DFT.dft(window);
+            for (int i = 0; i < bins.length; i++) {
+                String message = "n = " + n + ", r = " + damping + ", bin " + bins[i] + " after " + pushed;
+                Complex bin = sliding.getBin(i);
+                assertEquals(expected[bins[i]].getReal(), bin.getReal(), 1e-12, message);
+                assertEquals(expected[bins[i]].getImaginary(), bin.getImaginary(), 1e-12, message);
+                assertEquals(bin.getReal(), sliding.getReal(i), 0);
+                assertEquals(bin.getImaginary(), sliding.getImaginary(i), 0);
+                assertEquals(expected[bins[i]].getAbs(), sliding.getAbs(i), 1e-12, message);
+            }
+        }
+    }
+
+    @Test
+    void undamped() {
+        assertSlidingMatchesDFT(16, 1);
+        assertSlidingMatchesDFT(21, 1);
+    }
+
+    @Test
+    void damped() {
+        assertSlidingMatchesDFT(16, 0.99);
+        assertSlidingMatchesDFT(21, 0.9);
+    }
+
+    @Test
+    void reset() {
+        SlidingDFT sliding = new SlidingDFT(8, new int[] {1, 3});
+        sliding.push(FourierReference.signal(20, 0), 0, 20);
+        sliding.reset();
+        sliding.push(1.0);
+        // a single 1 as newest sample of the window: X_k = exp(-2 pi i k 7 / 8) / 8
+        assertEquals(Math.cos(2 * Math.PI * 7 / 8) / 8, sliding.getReal(0), 1e-15);
+        assertEquals(-Math.sin(2 * Math.PI * 7 / 8) / 8, sliding.getImaginary(0), 1e-15);
+        assertThrows(IllegalArgumentException.class, () -> new SlidingDFT(8, new int[] {8}));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingDFT(8, new int[] {1}, 1.5));
+    }
+}
@@ -0,0 +1,102 @@
+package tests;
+
+import interpolation.SmoothingSpline;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SmoothingSplineTests {
+    private static final double[] Y = {1, 10, 5, -1, 0, 11, 4, 4.5};
+
+    @Test
+    void interpolatesWithoutPenalty() {
+        SmoothingSpline s = new SmoothingSpline(0);
+        s.init(0, 7, Y);
+        assertArrayEquals(Y, s.getSmoothedValues(), 1e-12);
+        for (int i = 0; i < Y.length; i++) {
+            assertEquals(Y[i], s.evaluate(i), 1e-12);
+        }
+        // natural spline: f'' = 0 at both ends
+        double eps = 1e-3;
+        assertEquals(0, (s.evaluate(0) - 2 * s.evaluate(eps) + s.evaluate(2 * eps)) / (eps * eps), 0.1);
+        assertEquals(0, (s.evaluate(7) - 2 * s.evaluate(7 - eps) + s.evaluate(7 - 2 * eps)) / (eps * eps), 0.1);
+    }
+
+    @Test
+    void continuousSecondDerivative() {
+        SmoothingSpline s = new SmoothingSpline(0.3);
+        s.init(0, 7, Y);
+        double eps = 1e-4;
+        for (int i = 1; i < Y.length - 1; i++) {
+            double left = (s.evaluate(i) - 2 * s.evaluate(i - eps) + s.evaluate(i - 2 * eps)) / (eps * eps);
+            double right = (s.evaluate(i) - 2 * s.evaluate(i + eps) + s.evaluate(i + 2 * eps)) / (eps * eps);
+            assertEquals(left, right, 1e-2);
+        }
+    }
+
+    @Test
+    void reproducesLines() {
+        double[] y = new double[20];
+        for (int i = 0; i < y.length; i++) {
+            y[i] = 3 - 0.5 * i;
+        }
+        SmoothingSpline s = new SmoothingSpline(7);
+        s.init(0, 19, y);
+        assertArrayEquals(y, s.getSmoothedValues(), 1e-12);
+        assertEquals(3 - 0.5 * 4.25, s.evaluate(4.25), 1e-12);
+    }
+
+    @Test
+    void largePenaltyGivesLeastSquaresLine() {
+        int n = Y.length;
+        double meanX = (n - 1) / 2.0;
+        double meanY = 0;
+        for (double v : Y) {
+            meanY += v / n;
+        }
+        double sxy = 0;
+        double sxx = 0;
+        for (int i = 0; i < n; i++) {
+            sxy += (i - meanX) * (Y[i] - meanY);
+            sxx += (i - meanX) * (i - meanX);
+        }
+        double slope = sxy / sxx;
+
+        SmoothingSpline s = new SmoothingSpline(1e9);
+        s.init(0, n - 1, Y);
+        for (double z = 0; z <= n - 1; z += 0.5) {
+            assertEquals(meanY + slope * (z - meanX), s.evaluate(z), 1e-5);
+        }
+    }
+
+    @Test
+    void smoothsNoise() {
+        int n = 200;
+        double[] y = new double[n + 1];
+        for (int i = 0; i <= n; i++) {
+            double z = (double) i / n;
+            // deterministic "noise" of amplitude 0.1
+            y[i] = Math.sin(2 * Math.PI * z) + 0.1 * Math.sin(1234.5 * i * i);
+        }
+        SmoothingSpline s = new SmoothingSpline(1e-5);
+        s.init(0, 1, y);
+        double error = 0;
+        double noise = 0;
+        for (int i = 0; i <= n; i++) {
+            double exact = Math.sin(2 * Math.PI * i / n);
+            double e = s.evaluate((double) i / n) - exact;
+            error += e * e;
+            noise += (y[i] - exact) * (y[i] - exact);
+        }
+        // the squared error is much smaller than the squared noise
+        assertEquals(0, error, noise / 4);
+    }
+
+    @Test
+    void rejectsNegativePenalty() {
+        assertThrows(IllegalArgumentException.class, () -> new SmoothingSpline(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SmoothingSpline(Double.NaN));
+    }
+}
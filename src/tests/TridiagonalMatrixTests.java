@@ -0,0 +1,258 @@
+package tests;
+
+import linalg.CyclicTridiagonalLU;
+import linalg.CyclicTridiagonalMatrix;
+import linalg.ParallelTridiagonalSolver;
+import linalg.ToeplitzTridiagonalMatrix;
+import linalg.TridiagonalLU;
+import linalg.TridiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TridiagonalMatrixTests {
+    private static TridiagonalMatrix matrix(int n) {
+        TridiagonalMatrix a = new TridiagonalMatrix(n);
+        for (int i = 0; i < n; i++) {
+            a.setDiagonal(i, 3 + Math.sin(i));
+            if (i < n - 1) {
+                a.setLower(i, Math.cos(i));
+                a.setUpper(i, 1 - 0.1 * i);
+            }
+        }
+        return a;
+    }
+
+    @Test
+    void factorize() {
+        int n = 9;
+        TridiagonalMatrix a = matrix(n);
+        TridiagonalLU lu = a.factorize();
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = i * i - 3;
+        }
+        double[] expected = a.solveLinearSystem(b);
+
+        double[] x = new double[n];
+        lu.solve(b, x);
+        assertArrayEquals(expected, x, 1e-12);
+        lu.solve(b);
+        assertArrayEquals(expected, b, 1e-12);
+    }
+
+    @Test
+    void solveColumns() {
+        int n = 6;
+        int k = 3;
+        TridiagonalMatrix a = matrix(n);
+        TridiagonalLU lu = a.factorize();
+        double[] columns = new double[n * k];
+        double[] interleaved = new double[n * k];
+        for (int s = 0; s < k; s++) {
+            for (int i = 0; i < n; i++) {
+                columns[s * n + i] = interleaved[i * k + s] = s - i * 0.5;
+            }
+        }
+        double[] expected = new double[n * k];
+        for (int s = 0; s < k; s++) {
+            double[] x = a.solveLinearSystem(Arrays.copyOfRange(columns, s * n, (s + 1) * n));
+            for (int i = 0; i < n; i++) {
+                expected[i * k + s] = x[i];
+            }
+        }
+        lu.solveColumns(columns, k);
+        lu.solveInterleaved(interleaved, k);
+        assertArrayEquals(expected, interleaved, 1e-12);
+        for (int s = 0; s < k; s++) {
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected[i * k + s], columns[s * n + i], 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void zeroPivot() {
+        TridiagonalMatrix a = new TridiagonalMatrix(3);
+        a.setDiagonal(1.0);
+        a.setUpper(1.0);
+        a.setLower(1.0);
+        assertThrows(ArithmeticException.class, a::factorize);
+    }
+
+    @Test
+    void parallelSolver() {
+        int n = 1000;
+        TridiagonalMatrix a = new TridiagonalMatrix(n);
+        for (int i = 0; i < n; i++) {
+            a.setDiagonal(i, 3 + Math.sin(i));
+            if (i < n - 1) {
+                a.setLower(i, Math.cos(i));
+                a.setUpper(i, 0.9 * Math.sin(2 * i));
+            }
+        }
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = Math.sin(0.1 * i);
+        }
+        double[] expected = a.solveLinearSystem(b);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // 4 * parallelism = 16 blocks
+            assertArrayEquals(expected, new ParallelTridiagonalSolver(pool, 10).solve(a, b), 1e-12);
+            // sequential fallback
+            assertArrayEquals(expected, new ParallelTridiagonalSolver(pool, 1000).solve(a, b), 1e-12);
+
+            a.setDiagonal(500, 0.5);
+            assertThrows(IllegalArgumentException.class, () -> new ParallelTridiagonalSolver(pool, 10).solve(a, b));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Compares the solutions of the Toeplitz matrix with TridiagonalMatrix, tolerance is relative to the largest entry
+     * of the solution.
+     */
+    private static void assertToeplitz(int n, double lower, double diagonal, double upper, double tolerance) {
+        TridiagonalMatrix a = new TridiagonalMatrix(n);
+        a.setDiagonal(diagonal);
+        a.setLower(lower);
+        a.setUpper(upper);
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = Math.cos(i);
+        }
+        double[] expected = a.solveLinearSystem(b);
+        tolerance *= Arrays.stream(expected).map(Math::abs).max().orElse(0);
+        ToeplitzTridiagonalMatrix t = new ToeplitzTridiagonalMatrix(n, lower, diagonal, upper);
+        double[] x = new double[n];
+        t.solve(b, x);
+        assertArrayEquals(expected, x, tolerance, "n = " + n + ", diagonal " + diagonal);
+
+        double[] interleaved = new double[2 * n];
+        for (int i = 0; i < n; i++) {
+            interleaved[2 * i] = b[i];
+            interleaved[2 * i + 1] = -b[i];
+        }
+        t.solveInterleaved(interleaved, 2);
+        for (int i = 0; i < n; i++) {
+            assertEquals(expected[i], interleaved[2 * i], tolerance);
+            assertEquals(-expected[i], interleaved[2 * i + 1], tolerance);
+        }
+    }
+
+    @Test
+    void toeplitz() {
+        for (int n : new int[]{1, 5, 200}) {
+            assertToeplitz(n, 1.0, 4.0, -2.0, 1e-14);
+        }
+    }
+
+    @Test
+    void toeplitzWithoutConvergence() {
+        // 4 l u = d^2: the pivots (i + 2) / (i + 1) approach 1 too slowly to be truncated
+        ToeplitzTridiagonalMatrix.clearCache();
+        for (int n : new int[]{5, 200, 3000, 100}) {
+            assertToeplitz(n, 1.0, 2.0, 1.0, 1e-12);
+            assertToeplitz(n, 1.0, -2.0, 1.0, 1e-12);
+        }
+        // 4 l u > d^2: the pivots rotate without a fixed point
+        assertToeplitz(50, 1.0, 1.5, 1.0, 1e-12);
+    }
+
+    @Test
+    void cyclic() {
+        int n = 7;
+        CyclicTridiagonalMatrix a = new CyclicTridiagonalMatrix(n);
+        double[] lower = new double[n];
+        double[] diagonal = new double[n];
+        double[] upper = new double[n];
+        for (int i = 0; i < n; i++) {
+            lower[i] = Math.cos(i);
+            diagonal[i] = 4 + Math.sin(i);
+            upper[i] = 1 - 0.2 * i;
+            a.setLower(i, lower[i]);
+            a.setDiagonal(i, diagonal[i]);
+            a.setUpper(i, upper[i]);
+        }
+        double[] b = {1, -2, 0.5, 3, 0, -1, 2};
+        double[] x = a.solveLinearSystem(b);
+        for (int i = 0; i < n; i++) {
+            double ax = lower[(i + n - 1) % n] * x[(i + n - 1) % n] + diagonal[i] * x[i] + upper[i] * x[(i + 1) % n];
+            assertEquals(b[i], ax, 1e-12);
+        }
+    }
+
+    @Test
+    void cyclicFactorization() {
+        int n = 6;
+        CyclicTridiagonalMatrix a = new CyclicTridiagonalMatrix(n);
+        a.setDiagonal(4);
+        a.setLower(1);
+        a.setUpper(-1);
+        CyclicTridiagonalLU lu = a.factorize();
+        assertEquals(n, lu.getSize());
+        for (int s = 0; s < 3; s++) {
+            double[] b = new double[n];
+            for (int i = 0; i < n; i++) {
+                b[i] = Math.sin(i + s) - s;
+            }
+            double[] expected = a.solveLinearSystem(b);
+            double[] x = new double[n];
+            lu.solve(b, x);
+            assertArrayEquals(expected, x, 1e-14);
+            lu.solve(b);
+            assertArrayEquals(expected, b, 1e-14);
+        }
+
+        // changing the matrix invalidates the cached factorization, but not lu
+        double[] b = {1, 0, 0, 2, 0, -1};
+        double[] before = a.solveLinearSystem(b);
+        a.setDiagonal(2, 5);
+        a.setUpper(n - 1, 0.5);
+        double[] x = a.solveLinearSystem(b);
+        double[] ax = new double[n];
+        for (int i = 0; i < n; i++) {
+            double diagonal = i == 2 ? 5 : 4;
+            double upper = i == n - 1 ? 0.5 : -1;
+            ax[i] = x[(i + n - 1) % n] + diagonal * x[i] + upper * x[(i + 1) % n];
+        }
+        assertArrayEquals(b, ax, 1e-12);
+        double[] old = b.clone();
+        lu.solve(old);
+        assertArrayEquals(before, old, 1e-14);
+    }
+
+    @Test
+    void solveLinearSystems() {
+        int n = 7;
+        int k = 3;
+        TridiagonalMatrix a = matrix(n);
+        double[] b = new double[n * k];
+        for (int i = 0; i < b.length; i++) {
+            b[i] = Math.cos(0.7 * i) - i % 4;
+        }
+        double[] copy = b.clone();
+        double[] x = a.solveLinearSystems(b, k);
+        assertArrayEquals(copy, b, 0);
+
+        for (int s = 0; s < k; s++) {
+            double[] column = new double[n];
+            for (int i = 0; i < n; i++) {
+                column[i] = b[i * k + s];
+            }
+            double[] expected = a.solveLinearSystem(column);
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected[i], x[i * k + s], 1e-12);
+            }
+        }
+        assertEquals(0, a.solveLinearSystems(new double[0], 0).length);
+        assertThrows(IllegalArgumentException.class, () -> a.solveLinearSystems(new double[n * k - 1], k));
+    }
+}
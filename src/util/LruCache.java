@@ -0,0 +1,90 @@
+package util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe cache with a bounded number of entries. When the cache is full, the least recently used entry is
+ * evicted. Missing values are computed outside the lock, so that an expensive value doesn't block lookups of other
+ * keys; if two threads compute the same value at once, both get the one, which was cached first.
+ * @param <K> key type, needs equals and hashCode
+ * @param <V> type of the cached values
+ */
+public final class LruCache<K, V> {
+    private final Map<K, V> entries;
+
+    /**
+     * @param capacity maximal number of cached entries, at least 1.
+     */
+    public LruCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive, got " + capacity);
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for key, computes it with factory and caches it if necessary.
+     */
+    public V get(K key, Function<? super K, ? extends V> factory) {
+        synchronized (entries) {
+            V value = entries.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        V value = factory.apply(key);
+        synchronized (entries) {
+            V existing = entries.putIfAbsent(key, value);
+            return existing != null ? existing : value;
+        }
+    }
+
+    /**
+     * Like get(key, factory), but a cached value, which isn't usable for the caller, is computed again and replaced.
+     * @param usable tests, whether a cached value can be returned.
+     * @param factory computes a usable value.
+     */
+    public V get(K key, Predicate<? super V> usable, Function<? super K, ? extends V> factory) {
+        synchronized (entries) {
+            V value = entries.get(key);
+            if (value != null && usable.test(value)) {
+                return value;
+            }
+        }
+        V value = factory.apply(key);
+        synchronized (entries) {
+            V existing = entries.get(key);
+            if (existing != null && usable.test(existing)) {
+                return existing;
+            }
+            entries.put(key, value);
+            return value;
+        }
+    }
+
+    /**
+     * Returns the number of cached entries.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}